@@ -47,7 +47,7 @@ public class ClueBankSaveDataManager
 	public ClueBankSaveDataManager(ConfigManager configManager, Gson gson)
 	{
 		this.configManager = configManager;
-		this.gson = gson;
+		this.gson = ClueGsonAdapters.register(gson);
 	}
 
 	public void saveStateToConfig(Client client, Map<Integer, ClueInstance> bankClues)
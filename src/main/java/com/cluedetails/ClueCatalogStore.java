@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2024, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import com.cluedetails.filters.ClueTier;
+import com.cluedetails.filters.RegionLookup;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Column storage for the fields of {@link Clues}, which only keeps its row in these arrays.
+ * Strings and colours shared between clues are stored once, and step locations are packed into a single int array.
+ */
+final class ClueCatalogStore
+{
+	private static final ClueTier[] TIERS = ClueTier.values();
+	private static final int UNKNOWN_REGIONS = -1;
+
+	private static int size;
+	private static int[] clueIds = new int[1024];
+	private static int[] itemIds = new int[1024];
+	private static byte[] tiers = new byte[1024];
+	private static String[] details = new String[1024];
+	private static String[] texts = new String[1024];
+	private static Color[] colors = new Color[1024];
+	private static int[] regionMasks = new int[1024];
+
+	// Locations of row i are at indices locationStart[i] until locationStart[i + 1]
+	private static int[] locationStart = new int[1025];
+	private static int[] locations = new int[1024];
+
+	// Only needed while the catalog is being built
+	private static Map<String, String> stringPool = new HashMap<>();
+	private static Map<Integer, Color> colorPool = new HashMap<>();
+
+	private ClueCatalogStore()
+	{
+	}
+
+	static int add(int clueId, String detail, Color color, int itemId, ClueTier tier, String text, List<WorldPoint> wps)
+	{
+		if (stringPool == null)
+		{
+			throw new IllegalStateException("Clue catalog has already been built");
+		}
+
+		int row = size++;
+		if (row == clueIds.length)
+		{
+			resize(row * 2);
+		}
+
+		clueIds[row] = clueId;
+		itemIds[row] = itemId;
+		tiers[row] = (byte) tier.ordinal();
+		details[row] = dedupe(detail);
+		texts[row] = dedupe(text);
+		colors[row] = colorPool.computeIfAbsent(color.getRGB(), rgb -> color);
+		regionMasks[row] = UNKNOWN_REGIONS;
+
+		int start = locationStart[row];
+		if (start + wps.size() > locations.length)
+		{
+			locations = Arrays.copyOf(locations, Math.max(locations.length * 2, start + wps.size()));
+		}
+		for (int i = 0; i < wps.size(); i++)
+		{
+			locations[start + i] = pack(wps.get(i));
+		}
+		locationStart[row + 1] = start + wps.size();
+		return row;
+	}
+
+	/**
+	 * Trims the columns to the catalog size once every clue has been added.
+	 */
+	static void seal()
+	{
+		resize(size);
+		if (ClueCatalogTables.REGION_MASKS.length == size)
+		{
+			regionMasks = ClueCatalogTables.REGION_MASKS;
+		}
+		locations = Arrays.copyOf(locations, locationStart[size]);
+		stringPool = null;
+		colorPool = null;
+	}
+
+	private static void resize(int capacity)
+	{
+		clueIds = Arrays.copyOf(clueIds, capacity);
+		itemIds = Arrays.copyOf(itemIds, capacity);
+		tiers = Arrays.copyOf(tiers, capacity);
+		details = Arrays.copyOf(details, capacity);
+		texts = Arrays.copyOf(texts, capacity);
+		colors = Arrays.copyOf(colors, capacity);
+		regionMasks = Arrays.copyOf(regionMasks, capacity);
+		locationStart = Arrays.copyOf(locationStart, capacity + 1);
+	}
+
+	private static String dedupe(String value)
+	{
+		if (value == null) return null;
+		return stringPool.computeIfAbsent(value, v -> v);
+	}
+
+	static int getClueId(int row)
+	{
+		return clueIds[row];
+	}
+
+	static int getItemId(int row)
+	{
+		return itemIds[row];
+	}
+
+	static ClueTier getTier(int row)
+	{
+		return TIERS[tiers[row]];
+	}
+
+	static String getDetail(int row)
+	{
+		return details[row];
+	}
+
+	static String getText(int row)
+	{
+		return texts[row];
+	}
+
+	static Color getColor(int row)
+	{
+		return colors[row];
+	}
+
+	static List<WorldPoint> getWorldPoints(int row)
+	{
+		List<WorldPoint> wps = new ArrayList<>(locationStart[row + 1] - locationStart[row]);
+		for (int i = locationStart[row]; i < locationStart[row + 1]; i++)
+		{
+			wps.add(unpack(locations[i]));
+		}
+		return wps;
+	}
+
+	// Regions come from ClueCatalogTables. They are only worked out here if a clue was added without regenerating it.
+	static int getRegionMask(int row)
+	{
+		int mask = regionMasks[row];
+		if (mask == UNKNOWN_REGIONS)
+		{
+			mask = 0;
+			for (int i = locationStart[row]; i < locationStart[row + 1]; i++)
+			{
+				mask |= RegionLookup.regionMask(unpackX(locations[i]), unpackY(locations[i]), unpackPlane(locations[i]));
+			}
+			regionMasks[row] = mask;
+		}
+		return mask;
+	}
+
+	static int pack(WorldPoint wp)
+	{
+		return pack(wp.getX(), wp.getY(), wp.getPlane());
+	}
+
+	static int pack(int x, int y, int plane)
+	{
+		return x | y << 15 | plane << 30;
+	}
+
+	static int unpackX(int packed)
+	{
+		return packed & 0x7FFF;
+	}
+
+	static int unpackY(int packed)
+	{
+		return (packed >>> 15) & 0x7FFF;
+	}
+
+	static int unpackPlane(int packed)
+	{
+		return packed >>> 30;
+	}
+
+	static WorldPoint unpack(int packed)
+	{
+		return ClueInterner.location(unpackX(packed), unpackY(packed), unpackPlane(packed));
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2024, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+/**
+ * Tables worked out from the clue definitions ahead of time, so loading the catalog only reads constant arrays.
+ * Generated by ClueCatalogTablesGenerator, so don't edit it by hand. ClueCatalogTablesTest fails when it no
+ * longer matches {@link Clues}.
+ */
+final class ClueCatalogTables
+{
+	// Bitmask of the ClueRegion ordinals each clue's steps are in, by catalog ordinal
+	static final int[] REGION_MASKS = regionMasks();
+	// Catalog ordinals in tier order, then catalog order
+	static final int[] TIER_ORDER = tierOrder();
+	// Catalog ordinals by the first region they are in, then catalog order
+	static final int[] REGION_ORDER = regionOrder();
+
+	private ClueCatalogTables()
+	{
+	}
+
+	// Each table is built in its own method, as the code of one method can't be more than 64KB
+	private static int[] regionMasks()
+	{
+		return new int[]{
+			32, 1, 1, 4, 4, 1, 1, 4, 1, 1, 1, 1, 1, 1, 32, 1, 1, 1, 1, 32,
+			4, 1, 1, 1, 4, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 16, 32, 4, 1, 16,
+			16, 32, 16, 16, 4, 0, 4, 1, 1, 16, 16, 1, 1, 4, 1, 4, 512, 512, 16, 16,
+			1, 1, 1, 32, 0, 4, 512, 16, 0, 4, 512, 4, 4, 1, 16, 512, 1, 1, 1, 4,
+			1, 16, 16, 1, 4, 4, 32, 1, 1, 16, 4, 4, 4, 1, 1, 1, 16, 0, 32, 4,
+			4, 1, 16, 64, 1, 16, 4, 1, 0, 16, 1, 0, 4, 512, 16, 32, 4, 16, 1, 1,
+			4, 16, 4, 1, 1, 16, 4, 16, 4, 16, 4, 1, 1, 1024, 512, 1, 4, 4, 4, 4,
+			4, 16, 4, 32, 1, 16, 16, 4, 32, 4, 1, 4, 1, 4, 4, 16, 4, 1, 0, 4,
+			1, 1, 1, 4, 1, 4, 4, 512, 16, 1, 4, 4, 32, 4, 1, 4, 4, 4, 1, 1,
+			512, 4, 1, 1, 4, 4, 1, 1, 1024, 1, 4, 4, 4, 4, 4, 4, 1024, 1024, 1, 16,
+			2, 2, 1, 1, 4, 2, 2, 16, 2, 32, 16, 16, 2, 2, 2, 16, 1, 16, 1, 1,
+			64, 4, 16, 16, 16, 16, 4, 1024, 16, 64, 16, 64, 16, 4, 64, 512, 8, 8, 512, 8,
+			1, 1, 4, 4, 512, 512, 64, 32, 16, 4, 1, 1, 0, 16, 0, 32, 2, 1, 512, 4,
+			16, 16, 512, 16, 1, 16, 16, 512, 16, 1, 16, 16, 8, 32, 64, 0, 512, 16, 1, 16,
+			16, 16, 2, 0, 4, 8, 2, 4, 16, 512, 1, 512, 16, 16, 16, 16, 16, 16, 16, 2,
+			16, 0, 16, 1024, 1, 4, 512, 16, 16, 8, 64, 16, 16, 1, 512, 16, 4, 64, 1, 512,
+			4, 32, 512, 4, 4, 512, 2, 16, 1, 8, 0, 2, 2, 64, 16, 64, 16, 1, 512, 16,
+			16, 16, 1, 16, 16, 32, 16, 16, 512, 4, 1, 16, 512, 4, 4, 4, 4, 4, 4, 1024,
+			1024, 16, 1, 16, 32, 4, 16, 8, 2, 16, 16, 16, 1, 16, 1, 16, 4, 4, 4, 16,
+			16, 4, 512, 16, 512, 512, 512, 512, 1, 4, 1, 16, 4, 512, 512, 512, 1, 512, 32, 1,
+			0, 512, 16, 512, 1, 16, 16, 16, 16, 2, 4, 1, 8, 0, 512, 128, 128, 1, 32, 2,
+			64, 64, 2, 32, 16, 16, 2, 128, 32, 64, 2, 32, 2, 2, 64, 2, 2, 512, 256, 4,
+			256, 4, 256, 256, 256, 16, 512, 8, 256, 256, 256, 256, 512, 256, 256, 256, 1, 256, 256, 256,
+			1, 8, 256, 256, 256, 256, 256, 256, 256, 1024, 4, 128, 16, 4, 2, 8, 1, 8, 4, 64,
+			0, 0, 1, 16, 1024, 16, 2, 16, 2, 8, 16, 512, 0, 4, 0, 16, 16, 8, 1, 64,
+			64, 0, 0, 8, 1, 0, 64, 32, 0, 1, 1, 0, 4, 2, 0, 16, 1, 32, 0, 16,
+			256, 16, 16, 32, 4, 16, 256, 16, 1, 16, 0, 16, 8, 8, 16, 512, 0, 16, 0, 1,
+			1, 2, 128, 1, 4, 64, 256, 0, 64, 0, 16, 64, 1, 2, 512, 256, 1, 16, 256, 1,
+			4, 1, 0, 0, 4, 16, 32, 512, 4, 1, 128, 4, 2, 16, 16, 0, 0, 16, 4, 0,
+			32, 16, 256, 0, 0, 32, 64, 4, 4, 1, 4, 4, 4, 4, 4, 4, 4, 1024, 16, 16,
+			2, 4, 64, 0, 1, 16, 1, 8, 16, 16, 0, 16, 0, 64, 128, 64, 32, 0, 0, 16,
+			16, 1024, 128, 64, 2, 64, 128, 2, 0, 32, 16, 1, 16, 64, 1, 64, 32, 512, 512, 64,
+			64, 16, 32, 16, 8, 256, 4, 8, 8, 8, 8, 256, 256, 8, 256, 0, 256, 256, 1, 8,
+			4, 256, 256, 32, 0, 256, 0, 16, 520, 0, 64, 64, 1, 0, 512, 512, 256, 16, 4, 1024,
+			8, 64, 0, 1, 256, 16, 0, 0, 0, 16, 1, 64, 16, 4, 128, 64, 16, 64, 4, 16,
+			0, 0, 8, 0, 16, 0, 16, 32, 0, 256, 128, 512, 128, 4, 64, 8, 512, 4, 0, 16,
+			512, 16, 4, 16, 16, 8, 8, 1, 4, 16, 0, 4, 4, 0, 128, 16, 16, 16, 16, 16,
+			16, 16, 16, 16, 16, 16, 16, 16, 16, 4, 4, 1024, 0, 16, 0, 0, 512, 128, 256, 256,
+			16, 0, 0, 64, 64, 16, 16, 128, 512, 32, 512, 128, 128, 128, 64, 2, 16, 64, 128, 64,
+			512, 16, 64, 256, 16, 512, 8, 512, 512, 256, 8, 512, 8, 512, 256, 256, 256, 256, 0, 16,
+			0, 4, 4, 4, 16, 320, 512, 4, 256, 0, 128, 4, 4, 256, 256, 0, 4, 2, 4, 0,
+			256, 256, 64, 512, 512, 16, 2, 16, 512, 1, 1, 128, 0, 4, 128, 4, 256, 0, 0, 0,
+			0, 0, 1024, 4, 128, 256, 1, 1, 0, 512, 0, 16, 64, 0, 1024, 0, 0, 0, 0, 0,
+			0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 16, 16, 16, 16, 16, 16,
+			16, 16, 16, 16, 16, 16, 16, 16, 16, 16, 16, 16, 16, 16, 16, 16, 16, 16, 16, 16
+		};
+	}
+
+	private static int[] tierOrder()
+	{
+		return new int[]{
+			0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19,
+			20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39,
+			40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59,
+			60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79,
+			80, 81, 82, 83, 84, 85, 86, 87, 88, 89, 90, 91, 92, 93, 94, 95, 96, 97, 98, 99,
+			100, 101, 102, 103, 104, 105, 106, 107, 108, 109, 110, 111, 112, 113, 114, 115, 116, 117, 118, 119,
+			120, 121, 122, 123, 124, 125, 126, 127, 128, 129, 130, 131, 132, 133, 134, 135, 136, 137, 138, 139,
+			140, 141, 142, 143, 144, 145, 146, 147, 148, 149, 150, 151, 152, 153, 154, 155, 156, 157, 158, 159,
+			160, 161, 162, 163, 164, 165, 166, 167, 168, 169, 170, 171, 172, 173, 174, 175, 176, 177, 178, 179,
+			180, 181, 182, 183, 184, 185, 186, 187, 188, 189, 190, 191, 192, 193, 194, 195, 196, 197, 198, 199,
+			200, 201, 202, 203, 204, 205, 206, 207, 208, 209, 210, 211, 212, 213, 214, 215, 216, 217, 218, 219,
+			220, 221, 222, 223, 224, 225, 226, 227, 228, 229, 230, 231, 232, 233, 234, 235, 236, 237, 238, 239,
+			240, 241, 242, 243, 244, 245, 246, 247, 248, 249, 250, 251, 252, 253, 254, 255, 256, 257, 258, 259,
+			260, 261, 262, 263, 264, 265, 266, 267, 268, 269, 270, 271, 272, 273, 274, 275, 276, 277, 278, 279,
+			280, 281, 282, 283, 284, 285, 286, 287, 288, 289, 290, 291, 292, 293, 294, 295, 296, 297, 298, 299,
+			300, 301, 302, 303, 304, 305, 306, 307, 308, 309, 310, 311, 312, 313, 314, 315, 316, 317, 318, 319,
+			320, 321, 322, 323, 324, 325, 326, 327, 328, 329, 330, 331, 332, 333, 334, 335, 336, 337, 338, 339,
+			340, 341, 342, 343, 344, 345, 346, 347, 348, 349, 350, 351, 352, 353, 354, 355, 356, 357, 358, 359,
+			360, 404, 405, 406, 407, 408, 409, 410, 411, 412, 413, 414, 415, 416, 417, 418, 419, 420, 421, 422,
+			423, 424, 425, 426, 427, 428, 429, 430, 431, 432, 433, 434, 435, 436, 437, 438, 439, 440, 441, 442,
+			443, 444, 445, 446, 447, 448, 449, 450, 451, 452, 453, 454, 455, 456, 457, 458, 459, 460, 461, 462,
+			463, 464, 465, 466, 467, 468, 469, 470, 471, 472, 473, 474, 475, 476, 477, 478, 479, 480, 481, 482,
+			483, 484, 485, 486, 487, 488, 489, 490, 491, 492, 493, 494, 495, 496, 497, 498, 499, 500, 501, 502,
+			503, 504, 505, 506, 507, 508, 509, 510, 511, 512, 513, 514, 515, 516, 517, 518, 519, 520, 521, 522,
+			523, 524, 525, 526, 527, 528, 529, 530, 531, 532, 533, 534, 535, 536, 537, 538, 539, 540, 541, 542,
+			543, 544, 545, 546, 547, 548, 549, 550, 551, 552, 553, 554, 555, 556, 557, 558, 559, 560, 561, 562,
+			563, 564, 565, 566, 567, 568, 569, 570, 571, 572, 573, 574, 575, 576, 577, 578, 579, 580, 581, 582,
+			583, 584, 585, 586, 587, 588, 589, 590, 591, 592, 593, 594, 595, 596, 597, 619, 620, 621, 622, 623,
+			624, 625, 626, 627, 628, 629, 630, 631, 632, 633, 634, 635, 636, 637, 638, 639, 640, 641, 642, 643,
+			644, 645, 646, 647, 648, 649, 650, 651, 652, 653, 654, 655, 656, 657, 658, 659, 660, 661, 662, 663,
+			664, 665, 666, 667, 668, 669, 670, 671, 672, 673, 674, 675, 676, 677, 678, 679, 680, 681, 682, 683,
+			684, 685, 686, 687, 688, 689, 690, 691, 692, 693, 694, 695, 696, 697, 698, 699, 700, 701, 702, 703,
+			704, 705, 706, 707, 708, 709, 710, 711, 712, 713, 714, 715, 716, 717, 718, 719, 720, 721, 722, 723,
+			724, 725, 726, 727, 728, 729, 730, 731, 732, 733, 734, 735, 736, 737, 738, 739, 740, 741, 742, 743,
+			744, 745, 746, 747, 748, 749, 750, 751, 752, 755, 756, 757, 758, 759, 760, 761, 762, 763, 764, 765,
+			766, 767, 768, 769, 770, 771, 772, 773, 774, 775, 776, 777, 778, 779, 780, 781, 782, 783, 784, 785,
+			786, 787, 788, 789, 790, 791, 792, 793, 794, 795, 796, 797, 798, 799, 800, 801, 802, 803, 804, 805,
+			806, 807, 808, 809, 810, 811, 812, 813, 814, 815, 816, 817, 818, 819, 820, 821, 822, 823, 824, 825,
+			826, 827, 828, 829, 830, 831, 832, 833, 834, 835, 836, 837, 838, 839, 840, 841, 842, 843, 844, 845,
+			846, 847, 848, 849, 850, 851, 852, 853, 854, 855, 856, 857, 858, 859, 860, 861, 862, 863, 864, 865,
+			866, 867, 868, 869, 870, 871, 872, 873, 874, 875, 876, 877, 878, 879, 880, 881, 882, 883, 884, 885,
+			886, 887, 888, 889, 890, 891, 892, 893, 894, 895, 896, 897, 898, 899, 361, 362, 363, 364, 365, 366,
+			367, 368, 369, 370, 371, 372, 373, 374, 375, 376, 377, 378, 379, 380, 381, 382, 383, 384, 385, 386,
+			387, 388, 389, 390, 391, 392, 393, 394, 395, 396, 397, 398, 399, 400, 401, 402, 403, 598, 599, 600,
+			601, 602, 603, 604, 605, 606, 607, 608, 609, 610, 611, 612, 613, 614, 615, 616, 617, 618, 753, 754
+		};
+	}
+
+	private static int[] regionOrder()
+	{
+		return new int[]{
+			1, 2, 5, 6, 8, 9, 10, 11, 12, 13, 15, 16, 17, 18, 21, 22, 23, 25, 26, 27,
+			28, 29, 30, 31, 32, 33, 34, 38, 47, 48, 51, 52, 54, 60, 61, 62, 73, 76, 77, 78,
+			80, 83, 87, 88, 93, 94, 95, 101, 104, 107, 110, 118, 119, 123, 124, 131, 132, 135, 144, 150,
+			152, 157, 160, 161, 162, 164, 169, 174, 178, 179, 182, 183, 186, 187, 189, 198, 202, 203, 216, 218,
+			219, 240, 241, 250, 251, 257, 264, 269, 278, 290, 304, 313, 318, 328, 337, 342, 350, 362, 372, 374,
+			388, 390, 396, 399, 404, 411, 417, 456, 460, 476, 482, 498, 504, 509, 510, 516, 528, 539, 540, 543,
+			552, 556, 559, 561, 569, 589, 604, 606, 631, 634, 658, 672, 683, 690, 727, 829, 830, 846, 847, 3,
+			4, 7, 20, 24, 37, 44, 46, 53, 55, 65, 69, 71, 72, 79, 84, 85, 90, 91, 92, 99,
+			100, 106, 112, 116, 120, 122, 126, 128, 130, 136, 137, 138, 139, 140, 142, 147, 149, 151, 153, 154,
+			156, 159, 163, 165, 166, 170, 171, 173, 175, 176, 177, 181, 184, 185, 190, 191, 192, 193, 194, 195,
+			204, 221, 226, 233, 242, 243, 249, 259, 284, 287, 305, 316, 320, 323, 324, 349, 353, 354, 355, 356,
+			357, 358, 365, 376, 377, 378, 381, 389, 392, 410, 439, 441, 470, 473, 478, 493, 512, 524, 544, 560,
+			564, 568, 571, 578, 587, 588, 590, 591, 592, 593, 594, 595, 596, 601, 646, 660, 678, 693, 698, 713,
+			717, 722, 728, 731, 732, 749, 750, 801, 802, 803, 807, 811, 812, 816, 818, 833, 835, 843, 200, 201,
+			205, 206, 208, 212, 213, 214, 256, 282, 286, 299, 326, 331, 332, 368, 409, 419, 422, 426, 430, 432,
+			433, 435, 436, 474, 486, 488, 513, 541, 553, 572, 600, 624, 627, 775, 817, 826, 35, 39, 40, 42,
+			43, 49, 50, 58, 59, 67, 74, 81, 82, 89, 96, 102, 105, 109, 114, 117, 121, 125, 127, 129,
+			141, 145, 146, 155, 168, 199, 207, 210, 211, 215, 217, 222, 223, 224, 225, 228, 230, 232, 248, 253,
+			260, 261, 263, 265, 266, 268, 270, 271, 277, 279, 280, 281, 288, 292, 293, 294, 295, 296, 297, 298,
+			300, 302, 307, 308, 311, 312, 315, 327, 334, 336, 339, 340, 341, 343, 344, 346, 347, 351, 361, 363,
+			366, 369, 370, 371, 373, 375, 379, 380, 383, 391, 402, 405, 406, 407, 408, 424, 425, 445, 472, 483,
+			485, 487, 490, 495, 496, 515, 519, 521, 522, 525, 527, 529, 531, 534, 537, 550, 557, 565, 573, 574,
+			577, 581, 598, 599, 605, 608, 609, 611, 619, 620, 630, 632, 641, 643, 667, 677, 685, 689, 692, 696,
+			699, 704, 706, 719, 721, 723, 724, 729, 735, 736, 737, 738, 739, 740, 741, 742, 743, 744, 745, 746,
+			747, 748, 753, 760, 765, 766, 776, 781, 784, 799, 804, 825, 827, 851, 874, 875, 876, 877, 878, 879,
+			880, 881, 882, 883, 884, 885, 886, 887, 888, 889, 890, 891, 892, 893, 894, 895, 896, 897, 898, 899,
+			236, 237, 239, 272, 285, 309, 329, 367, 412, 447, 461, 475, 477, 489, 497, 503, 532, 533, 607, 644,
+			647, 648, 649, 650, 653, 659, 668, 680, 702, 715, 725, 726, 786, 790, 792, 0, 14, 19, 36, 41,
+			63, 86, 98, 115, 143, 148, 172, 209, 247, 255, 273, 321, 345, 364, 398, 418, 423, 428, 431, 507,
+			517, 523, 566, 580, 585, 616, 629, 636, 642, 663, 707, 769, 103, 220, 229, 231, 234, 246, 274, 310,
+			317, 333, 335, 420, 421, 429, 434, 479, 499, 500, 506, 545, 548, 551, 586, 602, 613, 615, 623, 625,
+			633, 635, 639, 640, 670, 671, 681, 691, 695, 697, 714, 763, 764, 774, 777, 779, 782, 805, 822, 852,
+			415, 416, 427, 471, 542, 570, 614, 622, 626, 694, 710, 712, 734, 757, 767, 771, 772, 773, 778, 810,
+			831, 834, 844, 438, 440, 442, 443, 444, 448, 449, 450, 451, 453, 454, 455, 457, 458, 459, 462, 463,
+			464, 465, 466, 467, 468, 520, 526, 546, 555, 558, 582, 645, 651, 652, 654, 656, 657, 661, 662, 665,
+			676, 684, 709, 758, 759, 783, 789, 794, 795, 796, 797, 808, 813, 814, 820, 821, 836, 845, 56, 57,
+			66, 70, 75, 113, 134, 167, 180, 235, 238, 244, 245, 258, 262, 267, 276, 289, 291, 306, 314, 319,
+			322, 325, 338, 348, 352, 382, 384, 385, 386, 387, 393, 394, 395, 397, 401, 403, 414, 437, 446, 452,
+			491, 535, 554, 567, 637, 638, 674, 675, 711, 716, 720, 756, 768, 770, 780, 785, 787, 788, 791, 793,
+			806, 823, 824, 828, 849, 133, 188, 196, 197, 227, 303, 359, 360, 469, 484, 597, 621, 679, 751, 842,
+			854, 45, 64, 68, 97, 108, 111, 158, 252, 254, 275, 283, 301, 330, 400, 413, 480, 481, 492, 494,
+			501, 502, 505, 508, 511, 514, 518, 530, 536, 538, 547, 549, 562, 563, 575, 576, 579, 583, 584, 603,
+			610, 612, 617, 618, 628, 655, 664, 666, 669, 673, 682, 686, 687, 688, 700, 701, 703, 705, 708, 718,
+			730, 733, 752, 754, 755, 761, 762, 798, 800, 809, 815, 819, 832, 837, 838, 839, 840, 841, 848, 850,
+			853, 855, 856, 857, 858, 859, 860, 861, 862, 863, 864, 865, 866, 867, 868, 869, 870, 871, 872, 873
+		};
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2024, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import java.awt.Color;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.ItemID;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.plugins.grounditems.GroundItemsConfig;
+import net.runelite.client.plugins.inventorytags.InventoryTagsConfig;
+
+/**
+ * Copies clue colors into the Ground Items highlight and Inventory Tags tag of each clue item.
+ * The colors wanted are compared with those stored, and only keys which differ are written, together,
+ * as each write makes those plugins reload.
+ */
+@Slf4j
+@Singleton
+public class ClueColorSync
+{
+	// Color picker changes arrive while dragging, so they are gathered up before syncing
+	private static final long SYNC_DELAY_MS = 200;
+
+	private final ConfigManager configManager;
+	private final ClueDetailsConfig config;
+	private final ClueDetailsStore clueDetailsStore;
+	private final Gson gson;
+	private final ScheduledExecutorService executor;
+
+	private final Set<Integer> pendingClueIds = new HashSet<>();
+	private boolean pendingAll;
+	private boolean syncScheduled;
+
+	@Inject
+	public ClueColorSync(ConfigManager configManager, ClueDetailsConfig config, ClueDetailsStore clueDetailsStore,
+						 Gson gson, ScheduledExecutorService executor)
+	{
+		this.configManager = configManager;
+		this.config = config;
+		this.clueDetailsStore = clueDetailsStore;
+		this.gson = gson;
+		this.executor = executor;
+	}
+
+	/**
+	 * Brings the clues' item colors in line with their clue colors, including clues set back to the default
+	 */
+	public synchronized void sync(Collection<Integer> clueIds)
+	{
+		pendingClueIds.addAll(clueIds);
+		schedule();
+	}
+
+	public void sync(int clueId)
+	{
+		sync(Set.of(clueId));
+	}
+
+	/**
+	 * Brings every colored clue's item colors in line, writing nothing when they already are
+	 */
+	public synchronized void syncAll()
+	{
+		pendingAll = true;
+		schedule();
+	}
+
+	/**
+	 * Runs any sync still waiting. Called on shut down, as scheduled syncs may not run.
+	 */
+	public void flush()
+	{
+		boolean pending;
+		synchronized (this)
+		{
+			pending = syncScheduled;
+		}
+		if (pending)
+		{
+			run();
+		}
+	}
+
+	private void schedule()
+	{
+		if (!syncScheduled)
+		{
+			syncScheduled = true;
+			executor.schedule(this::run, SYNC_DELAY_MS, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void run()
+	{
+		Set<Integer> clueIds;
+		boolean all;
+		synchronized (this)
+		{
+			clueIds = new HashSet<>(pendingClueIds);
+			all = pendingAll;
+			pendingClueIds.clear();
+			pendingAll = false;
+			syncScheduled = false;
+		}
+
+		boolean groundItems = config.colorGroundItems();
+		boolean inventoryTags = config.colorInventoryTags();
+		if (!groundItems && !inventoryTags) return;
+
+		if (all)
+		{
+			BitSet colored = clueDetailsStore.getCustomisedClues(false, true, false);
+			for (int ordinal = colored.nextSetBit(0); ordinal >= 0; ordinal = colored.nextSetBit(ordinal + 1))
+			{
+				clueIds.add(Clues.CLUES.get(ordinal).getClueID());
+			}
+		}
+
+		ConfigWriteBatch batch = new ConfigWriteBatch(configManager);
+		addWrites(batch, clueIds, groundItems, inventoryTags);
+
+		int written = batch.apply();
+		log.debug("Synced clue colors, {} keys written", written);
+	}
+
+	/**
+	 * Adds the writes bringing each clue's item colors in line with its clue color
+	 */
+	void addWrites(ConfigWriteBatch batch, Collection<Integer> clueIds, boolean groundItems, boolean inventoryTags)
+	{
+		for (int clueId : clueIds)
+		{
+			Clues clue = Clues.forClueId(clueId);
+			// Clues with their own ID share their item with other clues, or hold a map interface ID in its place
+			if (clue == null || clue.hasOwnClueId()) continue;
+
+			// Ground Items and Inventory Tags cannot support unique colors for beginner & master clues
+			int itemId = clue.getItemID();
+			if (itemId == ItemID.CLUE_SCROLL_BEGINNER || itemId == ItemID.CLUE_SCROLL_MASTER) continue;
+
+			// Ensure ARGB format. White isn't stored, as it's the default.
+			Color color = Objects.requireNonNullElse(clueDetailsStore.getColor(clueId), Color.WHITE);
+			if (groundItems)
+			{
+				batch.set(GroundItemsConfig.GROUP, "highlight_" + itemId, color);
+			}
+			if (inventoryTags)
+			{
+				addTagWrite(batch, "tag_" + itemId, color);
+			}
+		}
+	}
+
+	private void addTagWrite(ConfigWriteBatch batch, String key, Color color)
+	{
+		// Keep any other settings of the tag, only replacing its color
+		JsonObject tag = null;
+		String stored = configManager.getConfiguration(InventoryTagsConfig.GROUP, key);
+		if (stored != null)
+		{
+			try
+			{
+				JsonElement parsed = gson.fromJson(stored, JsonElement.class);
+				if (parsed != null && parsed.isJsonObject())
+				{
+					tag = parsed.getAsJsonObject();
+					Color storedColor = gson.fromJson(tag.get("color"), Color.class);
+					if (storedColor != null && storedColor.getRGB() == color.getRGB()) return;
+				}
+			}
+			catch (JsonParseException e)
+			{
+				log.debug("Replacing unreadable inventory tag {}", key, e);
+			}
+		}
+
+		if (tag == null)
+		{
+			tag = new JsonObject();
+		}
+		tag.add("color", gson.toJsonTree(color));
+		batch.set(InventoryTagsConfig.GROUP, key, gson.toJson(tag));
+	}
+}
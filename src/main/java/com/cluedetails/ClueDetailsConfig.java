@@ -32,6 +32,7 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import net.runelite.client.config.*;
@@ -46,17 +47,22 @@ public interface ClueDetailsConfig extends Config
 		/**
 		 * Sort clues in alphabetical order
 		 */
-		TIER(ClueOrders.sortByTier(), ClueTierFilter.BEGINNER, ClueTierFilter.EASY, ClueTierFilter.MEDIUM, ClueTierFilter.MEDIUM_KEY, ClueTierFilter.HARD, ClueTierFilter.ELITE, ClueTierFilter.MASTER),
-		REGION(ClueOrders.sortByRegion(), ClueRegionFilter.MISTHALIN, ClueRegionFilter.ASGARNIA, ClueRegionFilter.KARAMJA, ClueRegionFilter.KANDARIN, ClueRegionFilter.FREMENNIK_PROVINCE, ClueRegionFilter.KHARIDIAN_DESERT,
+		TIER(ClueOrders.sortByTier(), () -> ClueCatalogTables.TIER_ORDER, ClueTierFilter.BEGINNER, ClueTierFilter.EASY, ClueTierFilter.MEDIUM, ClueTierFilter.MEDIUM_KEY, ClueTierFilter.HARD, ClueTierFilter.ELITE, ClueTierFilter.MASTER),
+		REGION(ClueOrders.sortByRegion(), () -> ClueCatalogTables.REGION_ORDER, ClueRegionFilter.MISTHALIN, ClueRegionFilter.ASGARNIA, ClueRegionFilter.KARAMJA, ClueRegionFilter.KANDARIN, ClueRegionFilter.FREMENNIK_PROVINCE, ClueRegionFilter.KHARIDIAN_DESERT,
 			ClueRegionFilter.MORYTANIA, ClueRegionFilter.TIRANNWN, ClueRegionFilter.WILDERNESS, ClueRegionFilter.KOUREND, ClueRegionFilter.VARLAMORE);
 
 		private final Comparator<Clues> comparator;
+		// Catalog ordinals in comparator order, generated ahead of time
+		private final Supplier<int[]> catalogOrder;
 		@Getter
 		private final ClueFilter[] sections;
+		// Catalog ordinals of each section's clues, worked out once on first use
+		private volatile int[][] sectionOrders;
 
-		ClueOrdering(Comparator<Clues> comparator, ClueFilter... sections)
+		ClueOrdering(Comparator<Clues> comparator, Supplier<int[]> catalogOrder, ClueFilter... sections)
 		{
 			this.comparator = comparator;
+			this.catalogOrder = catalogOrder;
 			this.sections = sections;
 		}
 
@@ -65,6 +71,23 @@ public interface ClueDetailsConfig extends Config
 			return list.stream().sorted(this).collect(Collectors.toList());
 		}
 
+		public int[] getSectionOrder(int section)
+		{
+			int[][] orders = sectionOrders;
+			if (orders == null)
+			{
+				int[] order = catalogOrder.get();
+				if (order.length != Clues.CLUES.size())
+				{
+					// Only when a clue was added without regenerating the tables
+					order = ClueOrders.order(Clues.CLUES, comparator);
+				}
+				orders = ClueOrders.sectionOrders(Clues.CLUES, order, sections);
+				sectionOrders = orders;
+			}
+			return orders[section];
+		}
+
 		@Override
 		public int compare(Clues o1, Clues o2)
 		{
@@ -138,17 +161,17 @@ public interface ClueDetailsConfig extends Config
 	enum ClueRegionFilter implements ClueFilter
 	{
 		SHOW_ALL(c -> true, "Show All"),
-		MISTHALIN(c -> c.getRegions().isRegionValid(ClueRegion.MISTHALIN), "Misthalin"),
-		KARAMJA(c -> c.getRegions().isRegionValid(ClueRegion.KARAMJA), "Karamja"),
-		ASGARNIA(c -> c.getRegions().isRegionValid(ClueRegion.ASGARNIA), "Asgarnia"),
-		FREMENNIK_PROVINCE(c -> c.getRegions().isRegionValid(ClueRegion.FREMENNIK_PROVINCE), "Fremennik province"),
-		KANDARIN(c -> c.getRegions().isRegionValid(ClueRegion.KANDARIN), "Kandarin"),
-		KHARIDIAN_DESERT(c -> c.getRegions().isRegionValid(ClueRegion.KHARIDIAN_DESERT), "Kharidian desert"),
-		MORYTANIA(c -> c.getRegions().isRegionValid(ClueRegion.MORYTANIA), "Morytania"),
-		TIRANNWN(c -> c.getRegions().isRegionValid(ClueRegion.TIRANNWN), "Tirannwn"),
-		WILDERNESS(c -> c.getRegions().isRegionValid(ClueRegion.WILDERNESS), "Wilderness"),
-		KOUREND(c -> c.getRegions().isRegionValid(ClueRegion.KOUREND), "Kourend"),
-		VARLAMORE(c -> c.getRegions().isRegionValid(ClueRegion.VARLAMORE), "Varlamore"),
+		MISTHALIN(c -> c.isInRegion(ClueRegion.MISTHALIN), "Misthalin"),
+		KARAMJA(c -> c.isInRegion(ClueRegion.KARAMJA), "Karamja"),
+		ASGARNIA(c -> c.isInRegion(ClueRegion.ASGARNIA), "Asgarnia"),
+		FREMENNIK_PROVINCE(c -> c.isInRegion(ClueRegion.FREMENNIK_PROVINCE), "Fremennik province"),
+		KANDARIN(c -> c.isInRegion(ClueRegion.KANDARIN), "Kandarin"),
+		KHARIDIAN_DESERT(c -> c.isInRegion(ClueRegion.KHARIDIAN_DESERT), "Kharidian desert"),
+		MORYTANIA(c -> c.isInRegion(ClueRegion.MORYTANIA), "Morytania"),
+		TIRANNWN(c -> c.isInRegion(ClueRegion.TIRANNWN), "Tirannwn"),
+		WILDERNESS(c -> c.isInRegion(ClueRegion.WILDERNESS), "Wilderness"),
+		KOUREND(c -> c.isInRegion(ClueRegion.KOUREND), "Kourend"),
+		VARLAMORE(c -> c.isInRegion(ClueRegion.VARLAMORE), "Varlamore"),
 		;
 
 		private final Predicate<Clues> predicate;
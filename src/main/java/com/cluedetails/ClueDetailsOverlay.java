@@ -56,7 +56,6 @@ import net.runelite.api.events.ItemDespawned;
 import net.runelite.api.events.ItemSpawned;
 import net.runelite.api.events.MenuOpened;
 import net.runelite.client.Notifier;
-import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.ui.JagexColors;
 import net.runelite.client.ui.overlay.OverlayLayer;
@@ -75,7 +74,8 @@ public class ClueDetailsOverlay extends OverlayPanel
 	private final TooltipManager tooltipManager;
 
 	protected ModelOutlineRenderer modelOutlineRenderer;
-	private final ConfigManager configManager;
+	private final ClueDetailsStore clueDetailsStore;
+	private final ClueLabelCache clueLabelCache;
 
 	private final Notifier notifier;
 	private ClueDetailsPlugin clueDetailsPlugin;
@@ -88,7 +88,7 @@ public class ClueDetailsOverlay extends OverlayPanel
 	protected static final int SCENE_TO_LOCAL = 128;
 
 	@Inject
-	public ClueDetailsOverlay(Client client, ClueDetailsConfig config, TooltipManager tooltipManager, ModelOutlineRenderer modelOutlineRenderer, ConfigManager configManager, Notifier notifier)
+	public ClueDetailsOverlay(Client client, ClueDetailsConfig config, TooltipManager tooltipManager, ModelOutlineRenderer modelOutlineRenderer, ClueDetailsStore clueDetailsStore, ClueLabelCache clueLabelCache, Notifier notifier)
 	{
 		setPriority(PRIORITY_HIGHEST);
 		setLayer(OverlayLayer.ABOVE_WIDGETS);
@@ -99,7 +99,8 @@ public class ClueDetailsOverlay extends OverlayPanel
 		this.config = config;
 		this.tooltipManager = tooltipManager;
 		this.modelOutlineRenderer = modelOutlineRenderer;
-		this.configManager = configManager;
+		this.clueDetailsStore = clueDetailsStore;
+		this.clueLabelCache = clueLabelCache;
 		this.notifier = notifier;
 
 		tileHighlights.clear();
@@ -317,7 +318,7 @@ public class ClueDetailsOverlay extends OverlayPanel
 
 			if (matchingClue != null)
 			{
-				if (matchingClue.getDetailColor(configManager) == Color.WHITE)
+				if (matchingClue.getDetailColor(clueDetailsStore) == Color.WHITE)
 				{
 					showColor = false;
 				}
@@ -435,8 +436,7 @@ public class ClueDetailsOverlay extends OverlayPanel
 	private boolean shouldHighlight(int id)
 	{
 		if (id < 2677) return false; //TODO: Support fake beginner & master IDs
-		String shouldHighlight = configManager.getConfiguration("clue-details-highlights", String.valueOf(id));
-		return "true".equals(shouldHighlight);
+		return clueDetailsPlugin.getCluePreferenceManager().getHighlightPreference(id);
 	}
 
 	private int getScrollID(MenuEntry menuEntry)
@@ -468,19 +468,7 @@ public class ClueDetailsOverlay extends OverlayPanel
 		Clues matchingClue = Clues.forItemId(scrollID);
 		if (matchingClue != null)
 		{
-			String text = matchingClue.getDetail(configManager);
-			if (showColor)
-			{
-				Color color = matchingClue.getDetailColor(configManager);
-
-				// Only change floor text color if it's not the default
-				if (!(isFloorText && color == Color.WHITE))
-				{
-					String hexColor = Integer.toHexString(color.getRGB()).substring(2);
-					return "<col=" + hexColor + ">" + text;
-				}
-			}
-			return text;
+			return clueLabelCache.getLabel(matchingClue, showColor, isFloorText);
 		}
 
 		if (isReadClue(menuEntry))
@@ -488,7 +476,7 @@ public class ClueDetailsOverlay extends OverlayPanel
 			ClueInstance clueInstance = clueInventoryManager.getTrackedClueByClueItemId(scrollID);
 			if (clueInstance != null && !clueInstance.getClueIds().isEmpty())
 			{
-				return clueInstance.getCombinedClueText(clueDetailsPlugin, configManager, showColor, isFloorText);
+				return clueInstance.getCombinedClueText(clueDetailsPlugin, clueLabelCache, showColor, isFloorText);
 			}
 		}
 
@@ -510,7 +498,7 @@ public class ClueDetailsOverlay extends OverlayPanel
 		Clues matchingClue = Clues.forItemId(scrollID);
 		if (matchingClue != null)
 		{
-			color = matchingClue.getDetailColor(configManager);
+			color = matchingClue.getDetailColor(clueDetailsStore);
 		}
 		else if (areEntriesInTile(menuEntry))
 		{
@@ -520,8 +508,7 @@ public class ClueDetailsOverlay extends OverlayPanel
 		// Only change ground item menu color if it's not the default
 		if (color != null && color != Color.WHITE)
 		{
-			String hexColor = Integer.toHexString(color.getRGB()).substring(2);
-			return "<col=" + hexColor + ">" + itemName;
+			return clueLabelCache.getColorTag(color) + itemName;
 		}
 		return null;
 	}
@@ -545,7 +532,7 @@ public class ClueDetailsOverlay extends OverlayPanel
 		ClueInstance clueInstance = getTrackedClueInstance(entry);
 		if (clueInstance == null) return null;
 
-		return clueInstance.getCombinedClueText(clueDetailsPlugin, configManager, showColor, isFloorText);
+		return clueInstance.getCombinedClueText(clueDetailsPlugin, clueLabelCache, showColor, isFloorText);
 	}
 
 	private Color getTrackedClueColor(MenuEntryAndPos entry)
@@ -558,7 +545,7 @@ public class ClueDetailsOverlay extends OverlayPanel
 			Clues cluePart = Clues.forClueIdFiltered(clueInstance.getClueIds().get(0));
 			if (cluePart != null)
 			{
-				return cluePart.getDetailColor(configManager);
+				return cluePart.getDetailColor(clueDetailsStore);
 			}
 		}
 		return null;
@@ -28,6 +28,9 @@ import com.cluedetails.panels.ClueDetailsParentPanel;
 import com.google.gson.Gson;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
 import javax.inject.Inject;
 import javax.inject.Named;
 import lombok.Getter;
@@ -44,7 +47,6 @@ import net.runelite.api.events.MenuEntryAdded;
 import net.runelite.api.events.MenuOpened;
 import net.runelite.api.events.WidgetLoaded;
 import net.runelite.api.widgets.ComponentID;
-import net.runelite.api.widgets.InterfaceID;
 import net.runelite.api.widgets.Widget;
 import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.events.ClientShutdown;
@@ -56,6 +58,7 @@ import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ProfileChanged;
 import net.runelite.client.events.RuneScapeProfileChanged;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.input.KeyManager;
@@ -81,6 +84,16 @@ public class ClueDetailsPlugin extends Plugin
 	@Inject
 	private ClientThread clientThread;
 
+	@Inject
+	private ScheduledExecutorService executor;
+
+	@Inject
+	private ClueLabelCache clueLabelCache;
+
+	@Getter
+	@Inject
+	private ClueColorSync clueColorSync;
+
 	@Inject
 	private ClueDetailsConfig config;
 
@@ -117,6 +130,10 @@ public class ClueDetailsPlugin extends Plugin
 	@Inject
 	private ConfigManager configManager;
 
+	@Getter
+	@Inject
+	private ClueDetailsStore clueDetailsStore;
+
 	@Inject
 	private KeyManager keyManager;
 
@@ -141,8 +158,11 @@ public class ClueDetailsPlugin extends Plugin
 
 	private ClueBankManager clueBankManager;
 
+	@Getter
 	private CluePreferenceManager cluePreferenceManager;
 
+	private ClueViewInvalidator viewInvalidator;
+
 	@Inject
 	private ClueThreeStepSaver clueThreeStepSaver;
 
@@ -183,11 +203,18 @@ public class ClueDetailsPlugin extends Plugin
 
 		Clues.setConfig(config);
 		ClueInventoryManager.setConfig(config);
-
-		cluePreferenceManager = new CluePreferenceManager(this, configManager);
+		clueDetailsStore.load();
+
+		viewInvalidator = new ClueViewInvalidator(executor, Map.of(
+			ClueViewInvalidator.View.PANEL_LIST, () -> panel.refresh(),
+			ClueViewInvalidator.View.HIGHLIGHT_INDEX, () -> clientThread.invokeLater(infoOverlay::refreshHighlights),
+			ClueViewInvalidator.View.LABEL_CACHE, clueLabelCache::invalidate,
+			ClueViewInvalidator.View.OVERLAY_SETTINGS, widgetOverlay::invalidateHighlightedSlots));
+		cluePreferenceManager = new CluePreferenceManager(clueDetailsStore,
+			() -> viewInvalidator.invalidate(EnumSet.of(ClueViewInvalidator.View.HIGHLIGHT_INDEX)));
 		clueGroundManager = new ClueGroundManager(client, configManager, this);
 		clueBankManager = new ClueBankManager(client, configManager, gson);
-		clueInventoryManager = new ClueInventoryManager(client, configManager, this, clueGroundManager, clueBankManager, chatboxPanelManager);
+		clueInventoryManager = new ClueInventoryManager(client, clueDetailsStore, this, clueGroundManager, clueBankManager, chatboxPanelManager);
 		clueBankManager.startUp(clueInventoryManager);
 		clueThreeStepSaver.startUp(clueInventoryManager);
 
@@ -215,6 +242,8 @@ public class ClueDetailsPlugin extends Plugin
 	@Override
 	protected void shutDown() throws Exception
 	{
+		viewInvalidator.cancel();
+
 		overlayManager.remove(infoOverlay);
 		eventBus.unregister(infoOverlay);
 
@@ -232,6 +261,8 @@ public class ClueDetailsPlugin extends Plugin
 
 		clueGroundManager.saveStateToConfig();
 		clueBankManager.saveStateToConfig();
+		clueDetailsStore.flush();
+		clueColorSync.flush();
 	}
 
 	@Subscribe
@@ -252,8 +283,7 @@ public class ClueDetailsPlugin extends Plugin
 	@Subscribe
 	public void onWidgetLoaded(WidgetLoaded event)
 	{
-		if (event.getGroupId() >= InterfaceID.CLUE_BEGINNER_MAP_CHAMPIONS_GUILD
-			&& event.getGroupId() <= InterfaceID.CLUE_BEGINNER_MAP_WIZARDS_TOWER)
+		if (Clues.isMapClueInterface(event.getGroupId()))
 		{
 			clueInventoryManager.updateClueText(event.getGroupId());
 		}
@@ -335,12 +365,23 @@ public class ClueDetailsPlugin extends Plugin
 		clueThreeStepSaver.onMenuOpened(event);
 	}
 
+	@Subscribe
+	public void onProfileChanged(ProfileChanged event)
+	{
+		clueDetailsStore.load();
+		viewInvalidator.invalidateAll();
+	}
+
 	@Subscribe
 	public void onConfigChanged(ConfigChanged event)
 	{
-		if (event.getGroup().equals("clue-details-highlights"))
+		if (ClueDetailsStore.isStoreEvent(event))
 		{
-			infoOverlay.refreshHighlights();
+			if (clueDetailsStore.onConfigChanged(event))
+			{
+				viewInvalidator.invalidateAll();
+			}
+			return;
 		}
 
 		if (!event.getGroup().equals(ClueDetailsConfig.class.getAnnotation(ConfigGroup.class).value()))
@@ -348,6 +389,18 @@ public class ClueDetailsPlugin extends Plugin
 			return;
 		}
 
+		if (EnabledClueCatalog.TIER_TOGGLE_KEYS.contains(event.getKey()))
+		{
+			Clues.updateEnabledCatalog();
+		}
+
+		// Bring every clue item in line with its clue color when syncing is turned on
+		if (("colorGroundItems".equals(event.getKey()) || "colorInventoryTags".equals(event.getKey()))
+			&& "true".equals(event.getNewValue()))
+		{
+			clueColorSync.syncAll();
+		}
+
 		if ("showSidebar".equals(event.getKey()))
 		{
 			if ("true".equals(event.getNewValue()))
@@ -360,14 +413,17 @@ public class ClueDetailsPlugin extends Plugin
 			}
 		}
 
-		panel.refresh();
+		viewInvalidator.invalidate(ClueViewInvalidator.forConfigKey(event.getKey()));
 	}
 
 	@Subscribe(priority = 100)
 	private void onClientShutdown(ClientShutdown event)
 	{
+		// shutDown isn't called when the client closes. The writes are made before the config is saved.
 		clueGroundManager.saveStateToConfig();
 		clueBankManager.saveStateToConfig();
+		clueDetailsStore.flush();
+		clueColorSync.flush();
 	}
 
 	@Provides
@@ -24,8 +24,9 @@
  */
 package com.cluedetails;
 
-import static com.cluedetails.ClueDetailsConfig.CLUE_ITEMS_CONFIG;
+import com.cluedetails.filters.ClueFilterCompiler;
 import com.google.common.base.Strings;
+import com.google.common.primitives.Ints;
 import com.google.common.util.concurrent.Runnables;
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
@@ -37,19 +38,14 @@ import java.awt.datatransfer.StringSelection;
 import java.awt.datatransfer.UnsupportedFlavorException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
 import javax.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.ChatMessageType;
 import net.runelite.client.chat.QueuedMessage;
-import net.runelite.client.config.ConfigManager;
 import net.runelite.client.game.chatbox.ChatboxPanelManager;
-import net.runelite.client.plugins.grounditems.GroundItemsConfig;
-import net.runelite.client.plugins.inventorytags.InventoryTagsConfig;
 
 @Slf4j
 public class ClueDetailsSharingManager
@@ -59,77 +55,78 @@ public class ClueDetailsSharingManager
 	private final ChatboxPanelManager chatboxPanelManager;
 	private final Gson gson;
 
-	private final ConfigManager configManager;
+	private final ClueDetailsStore clueDetailsStore;
+
+	private final ClueColorSync clueColorSync;
 
 	@Inject
 	private ClueDetailsSharingManager(ClueDetailsPlugin plugin, ClueDetailsConfig config, ChatboxPanelManager chatboxPanelManager,
-										Gson gson, ConfigManager configManager)
+										Gson gson, ClueDetailsStore clueDetailsStore,
+										ClueColorSync clueColorSync)
 	{
 		this.plugin = plugin;
 		this.config = config;
 		this.chatboxPanelManager = chatboxPanelManager;
-		this.gson = gson;
-		this.configManager = configManager;
+		this.gson = ClueGsonAdapters.register(gson);
+		this.clueDetailsStore = clueDetailsStore;
+		this.clueColorSync = clueColorSync;
 	}
 
 	public void resetClueDetails()
 	{
-		List<Clues> filteredClues = Clues.CLUES.stream()
-			.filter(config.filterListByTier())
-			.filter(config.filterListByRegion())
-			.collect(Collectors.toList());
-
-		for (Clues clue : filteredClues)
+		BitSet customisedClues = getFilteredCustomisedClues(true, false, false);
+		clueDetailsStore.beginBatch();
+		try
+		{
+			for (int ordinal = customisedClues.nextSetBit(0); ordinal >= 0; ordinal = customisedClues.nextSetBit(ordinal + 1))
+			{
+				clueDetailsStore.setText(Clues.CLUES.get(ordinal).getClueID(), null);
+			}
+		}
+		finally
 		{
-			int id = clue.getClueID();
-			configManager.unsetConfiguration("clue-details-text", String.valueOf(id));
+			clueDetailsStore.endBatch();
 		}
+		plugin.getPanel().refresh();
 	}
 
 	public void exportClueDetails(boolean exportText, boolean exportColors, boolean exportItems)
 	{
-		List<ClueIdToDetails> clueIdToDetailsList = new ArrayList<>();
-
-		List<Clues> filteredClues = Clues.CLUES.stream()
-			.filter(config.filterListByTier())
-			.filter(config.filterListByRegion())
-			.collect(Collectors.toList());
+		// Only clues with something to export are visited, in catalog order
+		BitSet customisedClues = getFilteredCustomisedClues(exportText, exportColors, exportItems);
+		List<ClueIdToDetails> clueIdToDetailsList = new ArrayList<>(customisedClues.cardinality());
 
-		for (Clues clue : filteredClues)
+		for (int ordinal = customisedClues.nextSetBit(0); ordinal >= 0; ordinal = customisedClues.nextSetBit(ordinal + 1))
 		{
-			int id = clue.getClueID();
-			String clueText = configManager.getConfiguration("clue-details-text", String.valueOf(id));
-			String clueColor = configManager.getConfiguration("clue-details-color", String.valueOf(id));
-			String clueItems = configManager.getConfiguration(CLUE_ITEMS_CONFIG, String.valueOf(id));
+			int id = Clues.CLUES.get(ordinal).getClueID();
+			String clueText = clueDetailsStore.getText(id);
+			Color clueColor = clueDetailsStore.getColor(id);
+			int[] clueItems = clueDetailsStore.getItems(id);
 
 			// Try to export text, color, and items. Export where valid configurations are returned
 			if (exportText && exportColors && exportItems)
 			{
 				if (clueItems != null)
 				{
-					List<Integer> loadedClueItemsData = gson.fromJson(clueItems, new TypeToken<List<Integer>>()
-					{
-					}.getType());
-
 					// Export text, colors, and items
 					if (clueColor != null && clueText != null)
 					{
-						clueIdToDetailsList.add(new ClueIdToDetails(id, clueText, Color.decode(clueColor), loadedClueItemsData));
+						clueIdToDetailsList.add(new ClueIdToDetails(id, clueText, clueColor, clueItems));
 					}
 					// Export text and items
 					else if (clueText != null)
 					{
-						clueIdToDetailsList.add(new ClueIdToDetails(id, clueText, loadedClueItemsData));
+						clueIdToDetailsList.add(new ClueIdToDetails(id, clueText, clueItems));
 					}
 					// Export color and items
 					else if (clueColor != null)
 					{
-						clueIdToDetailsList.add(new ClueIdToDetails(id, Color.decode(clueColor), loadedClueItemsData));
+						clueIdToDetailsList.add(new ClueIdToDetails(id, clueColor, clueItems));
 					}
 					// Export items
 					else
 					{
-						clueIdToDetailsList.add(new ClueIdToDetails(id, loadedClueItemsData));
+						clueIdToDetailsList.add(new ClueIdToDetails(id, clueItems));
 					}
 				}
 				else
@@ -137,7 +134,7 @@ public class ClueDetailsSharingManager
 					// Export text and colors
 					if (clueText != null && clueColor != null)
 					{
-						clueIdToDetailsList.add(new ClueIdToDetails(id, clueText, Color.decode(clueColor)));
+						clueIdToDetailsList.add(new ClueIdToDetails(id, clueText, clueColor));
 					}
 					// Export text
 					else if (clueText != null)
@@ -147,7 +144,7 @@ public class ClueDetailsSharingManager
 					// Export colors
 					else if (clueColor != null)
 					{
-						clueIdToDetailsList.add(new ClueIdToDetails(id, Color.decode(clueColor)));
+						clueIdToDetailsList.add(new ClueIdToDetails(id, clueColor));
 					}
 				}
 			}
@@ -159,16 +156,12 @@ public class ClueDetailsSharingManager
 			// Export colors
 			else if (exportColors && clueColor != null)
 			{
-				clueIdToDetailsList.add(new ClueIdToDetails(id, Color.decode(clueColor)));
+				clueIdToDetailsList.add(new ClueIdToDetails(id, clueColor));
 			}
 			// Export items
 			else if (exportItems && clueItems != null)
 			{
-				List<Integer> loadedClueItemsData = gson.fromJson(clueItems, new TypeToken<List<Integer>>()
-				{
-				}.getType());
-
-				clueIdToDetailsList.add(new ClueIdToDetails(id, loadedClueItemsData));
+				clueIdToDetailsList.add(new ClueIdToDetails(id, clueItems));
 			}
 		}
 
@@ -178,7 +171,7 @@ public class ClueDetailsSharingManager
 			return;
 		}
 
-		final String exportDump = gson.toJson(clueIdToDetailsList);
+		final String exportDump = ClueShareCodec.encode(clueIdToDetailsList);
 
 		log.debug("Exported clue details: {}", exportDump);
 
@@ -188,6 +181,13 @@ public class ClueDetailsSharingManager
 		sendChatMessage(clueIdToDetailsList.size() + " clue details were copied to your clipboard.");
 	}
 
+	private BitSet getFilteredCustomisedClues(boolean withText, boolean withColor, boolean withItems)
+	{
+		BitSet clues = ClueFilterCompiler.compile(config.filterListByTier(), config.filterListByRegion(), null);
+		clues.and(clueDetailsStore.getCustomisedClues(withText, withColor, withItems));
+		return clues;
+	}
+
 	public void promptForImport()
 	{
 		final String clipboardText;
@@ -215,9 +215,17 @@ public class ClueDetailsSharingManager
 		List<ClueIdToDetails> importClueDetails;
 		try
 		{
-			// CHECKSTYLE:OFF
-			importClueDetails = gson.fromJson(clipboardText, new TypeToken<List<ClueIdToDetails>>(){}.getType());
-			// CHECKSTYLE:ON
+			if (ClueShareCodec.isShareString(clipboardText))
+			{
+				importClueDetails = ClueShareCodec.decode(clipboardText);
+			}
+			else
+			{
+				// Exports from older versions are JSON
+				// CHECKSTYLE:OFF
+				importClueDetails = gson.fromJson(clipboardText, new TypeToken<List<ClueIdToDetails>>(){}.getType());
+				// CHECKSTYLE:ON
+			}
 		}
 		catch (JsonSyntaxException e)
 		{
@@ -231,8 +239,14 @@ public class ClueDetailsSharingManager
 			sendChatMessage("Your clue details color is not properly formatted.");
 			return;
 		}
+		catch (IllegalArgumentException e)
+		{
+			log.debug("Malformed share string for clipboard import", e);
+			sendChatMessage("Your copied clue details could not be read.");
+			return;
+		}
 
-		if (importClueDetails.isEmpty())
+		if (importClueDetails == null || importClueDetails.isEmpty())
 		{
 			sendChatMessage("You do not have any clue details copied in your clipboard.");
 			return;
@@ -246,58 +260,46 @@ public class ClueDetailsSharingManager
 
 	private void importClueDetails(Collection<ClueIdToDetails> importPoints)
 	{
-		for (ClueIdToDetails importPoint : importPoints)
+		// Every change lands in the cache now, and config is written once afterwards
+		List<Integer> coloredClueIds = new ArrayList<>();
+		clueDetailsStore.beginBatch();
+		try
 		{
-			if (importPoint.text != null)
+			for (ClueIdToDetails importPoint : importPoints)
 			{
-				configManager.setConfiguration("clue-details-text", String.valueOf(importPoint.id), importPoint.text);
-			}
-			if (importPoint.color != null)
-			{
-				// Default color is white, so we don't need to store if user selects white
-				if (Objects.equals(importPoint.color, Color.decode("#FFFFFF")))
+				importClueDetails(importPoint);
+				if (importPoint.color != null)
 				{
-					configManager.unsetConfiguration("clue-details-color", String.valueOf(importPoint.id));
-				}
-				else
-				{
-					configManager.setConfiguration("clue-details-color", String.valueOf(importPoint.id), importPoint.color);
-				}
-
-				// Ground Items and Inventory Tags cannot support unique colors for beginner & master clues
-				if (importPoint.id >= 2677 && (config.colorGroundItems() || config.colorInventoryTags()))
-				{
-					// Ensure ARGB format
-					Color color = Color.decode(configManager.getConfiguration("clue-details-color", String.valueOf(importPoint.id)));
-
-					if (config.colorGroundItems())
-					{
-						configManager.setConfiguration(GroundItemsConfig.GROUP, "highlight_" + importPoint.id, color);
-					}
-					if (config.colorInventoryTags())
-					{
-						configManager.setConfiguration(InventoryTagsConfig.GROUP, "tag_" + importPoint.id,
-							gson.toJson(Map.of("color", color)));
-					}
-				}
-			}
-			if (importPoint.itemIds != null)
-			{
-				if (importPoint.itemIds.isEmpty())
-				{
-					configManager.unsetConfiguration("clue-details-items", String.valueOf(importPoint.id));
-				}
-				else
-				{
-					configManager.setConfiguration("clue-details-items", String.valueOf(importPoint.id), importPoint.itemIds);
+					coloredClueIds.add(importPoint.id);
 				}
 			}
 		}
+		finally
+		{
+			clueDetailsStore.endBatch();
+		}
+		clueColorSync.sync(coloredClueIds);
 
 		sendChatMessage(importPoints.size() + " clue details were imported from the clipboard.");
 		plugin.getPanel().refresh();
 	}
 
+	private void importClueDetails(ClueIdToDetails importPoint)
+	{
+		if (importPoint.text != null)
+		{
+			clueDetailsStore.setText(importPoint.id, importPoint.text);
+		}
+		if (importPoint.color != null)
+		{
+			clueDetailsStore.setColor(importPoint.id, importPoint.color);
+		}
+		if (importPoint.itemIds != null)
+		{
+			clueDetailsStore.setItems(importPoint.id, Ints.asList(importPoint.itemIds));
+		}
+	}
+
 	private void sendChatMessage(final String message)
 	{
 		plugin.getChatMessageManager().queue(QueuedMessage.builder()
@@ -0,0 +1,662 @@
+/*
+ * Copyright (c) 2024, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import static com.cluedetails.ClueDetailsConfig.CLUE_ITEMS_CONFIG;
+import com.google.common.primitives.Ints;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import java.awt.Color;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.events.ConfigChanged;
+
+/**
+ * Custom text, color, items and marking of each clue. The whole table is stored as one value per profile,
+ * read once on load and written back shortly after it changes, so reading a clue's details never goes to
+ * the {@link ConfigManager}.
+ * Older versions stored one key per clue in separate groups. Those are read into the table the first time
+ * it is loaded, and whenever an older version writes one, but are left in place for those versions.
+ */
+@Slf4j
+@Singleton
+public class ClueDetailsStore
+{
+	public static final String TEXT_CONFIG = "clue-details-text";
+	public static final String COLOR_CONFIG = "clue-details-color";
+	public static final String HIGHLIGHTS_CONFIG = "clue-details-highlights";
+
+	private static final String CONFIG_GROUP = "clue-details";
+	private static final String DETAILS_KEY = "customClueDetails";
+	private static final int FORMAT_VERSION = 1;
+
+	private static final String[] LEGACY_GROUPS = { TEXT_CONFIG, COLOR_CONFIG, CLUE_ITEMS_CONFIG, HIGHLIGHTS_CONFIG };
+
+	// Changes made close together, such as marking several clues, are written together
+	private static final long SAVE_DELAY_MS = 500;
+
+	private static final Type ITEMS_TYPE = new TypeToken<List<Integer>>()
+	{
+	}.getType();
+
+	private final ConfigManager configManager;
+	private final Gson gson;
+	private final ScheduledExecutorService executor;
+
+	private final Map<Integer, String> texts = new ConcurrentHashMap<>();
+	private final Map<Integer, Color> colors = new ConcurrentHashMap<>();
+	private final Map<Integer, int[]> items = new ConcurrentHashMap<>();
+	// Item ID to the IDs of the clues highlighting it
+	private final Map<Integer, Set<Integer>> cluesByItem = new ConcurrentHashMap<>();
+	// Marked clues by clue ID
+	private final BitSet marked = new BitSet();
+
+	// Bumped whenever a text or color changes, so anything built from them knows to rebuild
+	@Getter
+	private volatile int labelVersion;
+
+	// Bumped whenever anything in the table changes
+	@Getter
+	private volatile int version;
+
+	// While a large change is made, the table is only saved once the outermost batch ends. Guarded by this.
+	private int batchDepth;
+	// Guarded by this
+	private ScheduledFuture<?> pendingSave;
+	// Clues changed since the table was last saved, kept when another client changes the table first
+	private final Set<Integer> unsavedClueIds = ConcurrentHashMap.newKeySet();
+	// Last value written, so our own writes can be told apart when they come back as ConfigChanged
+	private volatile String lastSaved;
+
+	/**
+	 * The table as stored in config. Colors are RGB, and the maps are sorted so that equal tables save the same.
+	 */
+	private static class StoredDetails
+	{
+		int version;
+		Map<Integer, String> text;
+		Map<Integer, Integer> color;
+		Map<Integer, int[]> items;
+		int[] marked;
+		// Whether the per-clue keys of older versions have been read in, so they are not read again
+		boolean migratedLegacy;
+	}
+
+	@Inject
+	public ClueDetailsStore(ConfigManager configManager, Gson gson, ScheduledExecutorService executor)
+	{
+		this.configManager = configManager;
+		this.gson = gson;
+		this.executor = executor;
+	}
+
+	/**
+	 * Replaces the cache with the details stored in the current profile. Called after the profile has switched,
+	 * so a save still waiting is dropped rather than written over the new profile's details.
+	 */
+	public synchronized void load()
+	{
+		if (pendingSave != null)
+		{
+			pendingSave.cancel(false);
+			pendingSave = null;
+		}
+		unsavedClueIds.clear();
+
+		readProfile();
+		labelVersion++;
+		version++;
+	}
+
+	/**
+	 * Reloads the table changed by another client, then puts back the clues changed here that are not saved yet
+	 */
+	private synchronized void reloadKeepingUnsaved()
+	{
+		StoredDetails local = toStored();
+		Set<Integer> unsaved = new HashSet<>(unsavedClueIds);
+
+		readProfile();
+		for (int clueId : unsaved)
+		{
+			String text = local.text.get(clueId);
+			if (text == null)
+			{
+				texts.remove(clueId);
+			}
+			else
+			{
+				texts.put(clueId, text);
+			}
+
+			Integer rgb = local.color.get(clueId);
+			if (rgb == null)
+			{
+				colors.remove(clueId);
+			}
+			else
+			{
+				putColor(clueId, new Color(rgb));
+			}
+
+			putItems(clueId, local.items.get(clueId));
+			synchronized (marked)
+			{
+				marked.set(clueId, Arrays.binarySearch(local.marked, clueId) >= 0);
+			}
+		}
+
+		labelVersion++;
+		version++;
+		if (!unsaved.isEmpty())
+		{
+			scheduleSave();
+		}
+	}
+
+	private void readProfile()
+	{
+		texts.clear();
+		colors.clear();
+		items.clear();
+		cluesByItem.clear();
+		synchronized (marked)
+		{
+			marked.clear();
+		}
+
+		String value = configManager.getConfiguration(CONFIG_GROUP, DETAILS_KEY);
+		lastSaved = value;
+		StoredDetails stored = value == null ? null : readStored(value);
+		if ((stored == null || !stored.migratedLegacy) && readLegacyKeys())
+		{
+			// Save the table with the marker, so the keys are not read again
+			scheduleSave();
+		}
+	}
+
+	private StoredDetails readStored(String value)
+	{
+		StoredDetails stored;
+		try
+		{
+			stored = gson.fromJson(value, StoredDetails.class);
+		}
+		catch (JsonParseException e)
+		{
+			log.warn("Ignoring unreadable clue details", e);
+			return null;
+		}
+		if (stored == null) return null;
+
+		if (stored.version > FORMAT_VERSION)
+		{
+			log.warn("Clue details were saved by a newer version of the plugin, reading what is understood");
+		}
+		if (stored.text != null)
+		{
+			stored.text.forEach((clueId, text) ->
+			{
+				if (clueId != null && text != null) texts.put(clueId, text);
+			});
+		}
+		if (stored.color != null)
+		{
+			stored.color.forEach((clueId, rgb) ->
+			{
+				if (clueId != null && rgb != null) putColor(clueId, new Color(rgb));
+			});
+		}
+		if (stored.items != null)
+		{
+			stored.items.forEach((clueId, itemIds) ->
+			{
+				if (clueId != null && itemIds != null && itemIds.length > 0) putItems(clueId, itemIds);
+			});
+		}
+		if (stored.marked != null)
+		{
+			synchronized (marked)
+			{
+				for (int clueId : stored.marked)
+				{
+					if (clueId >= 0) marked.set(clueId);
+				}
+			}
+		}
+		return stored;
+	}
+
+	/**
+	 * Adds every per-clue key to the table. The keys are kept, as older versions still read them.
+	 *
+	 * @return whether any key was read
+	 */
+	private boolean readLegacyKeys()
+	{
+		boolean anyRead = false;
+		for (String group : LEGACY_GROUPS)
+		{
+			String prefix = group + ".";
+			for (String key : configManager.getConfigurationKeys(prefix))
+			{
+				String clueId = key.substring(prefix.length());
+				anyRead |= readLegacy(group, clueId, configManager.getConfiguration(group, clueId));
+			}
+		}
+		return anyRead;
+	}
+
+	/**
+	 * Applies one per-clue key to the table, where a null value is the key being removed
+	 */
+	private boolean readLegacy(String group, String key, String value)
+	{
+		Integer clueId = Ints.tryParse(key);
+		if (clueId == null || clueId < 0) return false;
+
+		switch (group)
+		{
+			case TEXT_CONFIG:
+				if (value == null)
+				{
+					texts.remove(clueId);
+				}
+				else
+				{
+					texts.put(clueId, value);
+				}
+				return true;
+			case COLOR_CONFIG:
+				Color color = value == null ? Color.WHITE : parseColor(clueId, value);
+				if (color != null) putColor(clueId, color);
+				return true;
+			case CLUE_ITEMS_CONFIG:
+				putItems(clueId, value == null ? null : parseItems(clueId, value));
+				return true;
+			case HIGHLIGHTS_CONFIG:
+				synchronized (marked)
+				{
+					marked.set(clueId, "true".equals(value));
+				}
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * @return whether the table changed, from another client on the profile or an older plugin version
+	 */
+	public boolean onConfigChanged(ConfigChanged event)
+	{
+		String group = event.getGroup();
+		if (CONFIG_GROUP.equals(group))
+		{
+			if (!DETAILS_KEY.equals(event.getKey()) || Objects.equals(event.getNewValue(), lastSaved)) return false;
+			reloadKeepingUnsaved();
+			return true;
+		}
+
+		if (!isLegacyGroup(group) || !readLegacy(group, event.getKey(), event.getNewValue())) return false;
+
+		labelVersion++;
+		changed(Integer.parseInt(event.getKey()));
+		return true;
+	}
+
+	/**
+	 * @return whether the event is for anything stored in this table, current or legacy
+	 */
+	public static boolean isStoreEvent(ConfigChanged event)
+	{
+		return isLegacyGroup(event.getGroup())
+			|| (CONFIG_GROUP.equals(event.getGroup()) && DETAILS_KEY.equals(event.getKey()));
+	}
+
+	private static boolean isLegacyGroup(String group)
+	{
+		return Arrays.asList(LEGACY_GROUPS).contains(group);
+	}
+
+	/**
+	 * Writes any change not yet saved. Called on shut down, as scheduled saves may not run.
+	 */
+	public synchronized void flush()
+	{
+		if (pendingSave != null || !unsavedClueIds.isEmpty())
+		{
+			save();
+		}
+	}
+
+	private synchronized void scheduleSave()
+	{
+		if (batchDepth == 0 && pendingSave == null)
+		{
+			pendingSave = executor.schedule(this::save, SAVE_DELAY_MS, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private synchronized void save()
+	{
+		if (pendingSave != null)
+		{
+			pendingSave.cancel(false);
+			pendingSave = null;
+		}
+		unsavedClueIds.clear();
+
+		String value = gson.toJson(toStored());
+		if (value.equals(lastSaved)) return;
+
+		lastSaved = value;
+		configManager.setConfiguration(CONFIG_GROUP, DETAILS_KEY, value);
+	}
+
+	private StoredDetails toStored()
+	{
+		StoredDetails stored = new StoredDetails();
+		stored.version = FORMAT_VERSION;
+		stored.migratedLegacy = true;
+		stored.text = new TreeMap<>(texts);
+		stored.color = new TreeMap<>();
+		colors.forEach((clueId, color) -> stored.color.put(clueId, color.getRGB() & 0xFFFFFF));
+		stored.items = new TreeMap<>(items);
+		synchronized (marked)
+		{
+			stored.marked = marked.stream().toArray();
+		}
+		return stored;
+	}
+
+	private void putColor(int clueId, Color color)
+	{
+		// White is the default, and stored colors are read back without alpha
+		if (color.getRGB() == Color.WHITE.getRGB())
+		{
+			colors.remove(clueId);
+		}
+		else
+		{
+			colors.put(clueId, new Color(color.getRGB()));
+		}
+	}
+
+	private void putItems(int clueId, int[] itemIds)
+	{
+		int[] previous = itemIds == null ? items.remove(clueId) : items.put(clueId, itemIds);
+		if (previous != null)
+		{
+			for (int itemId : previous)
+			{
+				cluesByItem.computeIfPresent(itemId, (id, clueIds) ->
+				{
+					clueIds.remove(clueId);
+					return clueIds.isEmpty() ? null : clueIds;
+				});
+			}
+		}
+		if (itemIds != null)
+		{
+			for (int itemId : itemIds)
+			{
+				cluesByItem.computeIfAbsent(itemId, id -> ConcurrentHashMap.newKeySet()).add(clueId);
+			}
+		}
+	}
+
+	private Color parseColor(int clueId, String value)
+	{
+		try
+		{
+			return Color.decode(value);
+		}
+		catch (NumberFormatException e)
+		{
+			log.debug("Ignoring malformed color for clue {}", clueId, e);
+			return null;
+		}
+	}
+
+	private int[] parseItems(int clueId, String value)
+	{
+		try
+		{
+			List<Integer> itemIds = gson.fromJson(value, ITEMS_TYPE);
+			if (itemIds == null) return null;
+			int[] parsed = itemIds.stream().filter(id -> id != null).mapToInt(Integer::intValue).toArray();
+			return parsed.length == 0 ? null : parsed;
+		}
+		catch (JsonParseException e)
+		{
+			log.debug("Ignoring malformed items for clue {}", clueId, e);
+			return null;
+		}
+	}
+
+	/**
+	 * @return the custom text of the clue, or null if it uses the default
+	 */
+	public String getText(int clueId)
+	{
+		return texts.get(clueId);
+	}
+
+	/**
+	 * @return the custom color of the clue, or null if it uses the default
+	 */
+	public Color getColor(int clueId)
+	{
+		return colors.get(clueId);
+	}
+
+	/**
+	 * @return the items highlighted for the clue, or null if none have been added. Must not be modified.
+	 */
+	public int[] getItems(int clueId)
+	{
+		return items.get(clueId);
+	}
+
+	/**
+	 * @return IDs of the clues which highlight the item. Must not be modified.
+	 */
+	public Set<Integer> getCluesForItem(int itemId)
+	{
+		return cluesByItem.getOrDefault(itemId, Collections.emptySet());
+	}
+
+	public boolean isMarked(int clueId)
+	{
+		if (clueId < 0) return false;
+		synchronized (marked)
+		{
+			return marked.get(clueId);
+		}
+	}
+
+	/**
+	 * @return catalog ordinals of every marked clue
+	 */
+	public BitSet getMarkedClues()
+	{
+		BitSet ordinals = new BitSet(Clues.CLUES.size());
+		synchronized (marked)
+		{
+			for (int clueId = marked.nextSetBit(0); clueId >= 0; clueId = marked.nextSetBit(clueId + 1))
+			{
+				Clues clue = Clues.forClueId(clueId);
+				if (clue != null)
+				{
+					ordinals.set(clue.getOrdinal());
+				}
+			}
+		}
+		return ordinals;
+	}
+
+	/**
+	 * @return catalog ordinals of every clue with any of the chosen details customised
+	 */
+	public BitSet getCustomisedClues(boolean withText, boolean withColor, boolean withItems)
+	{
+		BitSet ordinals = new BitSet(Clues.CLUES.size());
+		if (withText)
+		{
+			addOrdinals(ordinals, texts.keySet());
+		}
+		if (withColor)
+		{
+			addOrdinals(ordinals, colors.keySet());
+		}
+		if (withItems)
+		{
+			addOrdinals(ordinals, items.keySet());
+		}
+		return ordinals;
+	}
+
+	private static void addOrdinals(BitSet ordinals, Set<Integer> clueIds)
+	{
+		for (int clueId : clueIds)
+		{
+			Clues clue = Clues.forClueId(clueId);
+			if (clue != null)
+			{
+				ordinals.set(clue.getOrdinal());
+			}
+		}
+	}
+
+	/**
+	 * Holds back saving the table until {@link #endBatch()}, so a large change is written once.
+	 * The cache is still updated straight away.
+	 */
+	public synchronized void beginBatch()
+	{
+		batchDepth++;
+	}
+
+	public synchronized void endBatch()
+	{
+		if (--batchDepth == 0)
+		{
+			scheduleSave();
+		}
+	}
+
+	public void setText(int clueId, String text)
+	{
+		if (Objects.equals(texts.get(clueId), text)) return;
+
+		if (text == null)
+		{
+			texts.remove(clueId);
+		}
+		else
+		{
+			texts.put(clueId, text);
+		}
+		labelVersion++;
+		changed(clueId);
+	}
+
+	/**
+	 * Sets the custom color of the clue. White is the default, so it is removed rather than stored.
+	 */
+	public void setColor(int clueId, Color color)
+	{
+		Color newColor = color == null ? Color.WHITE : color;
+		Color current = colors.getOrDefault(clueId, Color.WHITE);
+		if (current.getRGB() == (newColor.getRGB() | 0xFF000000)) return;
+
+		putColor(clueId, newColor);
+		labelVersion++;
+		changed(clueId);
+	}
+
+	public void setItems(int clueId, List<Integer> itemIds)
+	{
+		int[] newItems = itemIds == null || itemIds.isEmpty() ? null : itemIds.stream().mapToInt(Integer::intValue).toArray();
+		if (Arrays.equals(items.get(clueId), newItems)) return;
+
+		putItems(clueId, newItems);
+		changed(clueId);
+	}
+
+	/**
+	 * Marks or unmarks every given clue.
+	 *
+	 * @return whether any clue changed
+	 */
+	public boolean setMarked(Collection<Integer> clueIds, boolean isMarked)
+	{
+		boolean anyChanged = false;
+		synchronized (marked)
+		{
+			for (int clueId : clueIds)
+			{
+				if (clueId < 0 || marked.get(clueId) == isMarked) continue;
+				marked.set(clueId, isMarked);
+				unsavedClueIds.add(clueId);
+				anyChanged = true;
+			}
+		}
+
+		if (anyChanged)
+		{
+			version++;
+			scheduleSave();
+		}
+		return anyChanged;
+	}
+
+	private void changed(int clueId)
+	{
+		unsavedClueIds.add(clueId);
+		version++;
+		scheduleSave();
+	}
+}
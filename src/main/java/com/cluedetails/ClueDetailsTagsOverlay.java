@@ -33,7 +33,6 @@ import java.awt.Rectangle;
 import net.runelite.api.ItemID;
 import net.runelite.api.widgets.InterfaceID;
 import net.runelite.api.widgets.WidgetItem;
-import net.runelite.client.config.ConfigManager;
 import net.runelite.client.ui.FontManager;
 import net.runelite.client.ui.overlay.WidgetItemOverlay;
 import net.runelite.client.ui.overlay.components.TextComponent;
@@ -42,14 +41,16 @@ public class ClueDetailsTagsOverlay extends WidgetItemOverlay
 {
 	private final ClueDetailsPlugin clueDetailsPlugin;
 	private final ClueDetailsConfig config;
-	private final ConfigManager configManager;
+	private final ClueDetailsStore clueDetailsStore;
+	private final ClueLabelCache clueLabelCache;
 
 	@Inject
-	public ClueDetailsTagsOverlay(ClueDetailsPlugin clueDetailsPlugin, ClueDetailsConfig config, ConfigManager configManager)
+	public ClueDetailsTagsOverlay(ClueDetailsPlugin clueDetailsPlugin, ClueDetailsConfig config, ClueDetailsStore clueDetailsStore, ClueLabelCache clueLabelCache)
 	{
 		this.clueDetailsPlugin = clueDetailsPlugin;
 		this.config = config;
-		this.configManager = configManager;
+		this.clueDetailsStore = clueDetailsStore;
+		this.clueLabelCache = clueLabelCache;
 		showOnInventory();
 	}
 
@@ -66,8 +67,8 @@ public class ClueDetailsTagsOverlay extends WidgetItemOverlay
 				&& !(itemId >= InterfaceID.CLUE_BEGINNER_MAP_CHAMPIONS_GUILD
 					&& itemId <= InterfaceID.CLUE_BEGINNER_MAP_WIZARDS_TOWER))
 			{
-				clueDetail = clue.getDetail(configManager);
-				clueDetailColor = clue.getDetailColor(configManager);
+				clueDetail = clue.getDetail(clueDetailsStore);
+				clueDetailColor = clue.getDetailColor(clueDetailsStore);
 			}
 			// If clue can't be found by Clue ID, check if it can be found by Clue text
 			else
@@ -92,33 +93,29 @@ public class ClueDetailsTagsOverlay extends WidgetItemOverlay
 
 					if (ids.isEmpty()) return;
 
-					boolean isFirst = true;
-					StringBuilder text = new StringBuilder();
-					StringBuilder detail = new StringBuilder();
-					for (Integer id : ids)
-					{
-						Clues clueDetails = Clues.forClueIdFiltered(id);
-						if (!isFirst)
-						{
-							text.append("<br>");
-							detail.append("<br>");
-						}
-						text.append(clueDetails == null ? "error" : clueDetails.getClueText());
-						detail.append(clueDetails == null ? "error" : clueDetails.getDetail(configManager));
-						clueDetailColor = clueDetails == null ? Color.WHITE : clueDetails.getDetailColor(configManager);
-						isFirst = false;
-					}
-
 					// Handle three step cryptic clues
-					final ThreeStepCrypticClue threeStepCrypticClue = ThreeStepCrypticClue.forText(text.toString());
+					final ThreeStepCrypticClue threeStepCrypticClue = readClues.getThreeStepCrypticClue();
 					if (threeStepCrypticClue != null)
 					{
 						threeStepCrypticClue.update(clueDetailsPlugin.getClueInventoryManager().getTrackedCluesInInventory());
-						clueDetail = threeStepCrypticClue.getDetail(configManager, config);
+						clueDetail = clueLabelCache.getThreeStepLabel(threeStepCrypticClue, config.colorInventoryClueTags());
 						clueDetailColor = Color.WHITE;
 					}
 					else
 					{
+						boolean isFirst = true;
+						StringBuilder detail = new StringBuilder();
+						for (Integer id : ids)
+						{
+							Clues clueDetails = Clues.forClueIdFiltered(id);
+							if (!isFirst)
+							{
+								detail.append("<br>");
+							}
+							detail.append(clueDetails == null ? "error" : clueDetails.getDetail(clueDetailsStore));
+							clueDetailColor = clueDetails == null ? Color.WHITE : clueDetails.getDetailColor(clueDetailsStore);
+							isFirst = false;
+						}
 						clueDetail = detail.toString();
 					}
 				}
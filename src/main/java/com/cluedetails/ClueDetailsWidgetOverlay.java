@@ -29,19 +29,23 @@ import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.Rectangle;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import javax.inject.Inject;
 
 import com.cluedetails.filters.ClueTier;
 import lombok.Setter;
+import lombok.Value;
 import net.runelite.api.Client;
 import net.runelite.api.InventoryID;
 import net.runelite.api.Item;
 import net.runelite.api.ItemContainer;
+import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.api.widgets.ComponentID;
 import net.runelite.api.widgets.Widget;
-import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPanel;
@@ -53,19 +57,32 @@ import net.runelite.client.util.ImageUtil;
 public class ClueDetailsWidgetOverlay extends OverlayPanel
 {
 	private final Client client;
-	private final ClueDetailsPlugin clueDetailsPlugin;
 	private final ClueDetailsConfig config;
-	private final ConfigManager configManager;
+	private final ClueDetailsStore clueDetailsStore;
 	@Setter
 	private ClueInventoryManager clueInventoryManager;
 	private final ItemManager itemManager;
 
 	private static final Color TITLED_CONTENT_COLOR = new Color(190, 190, 190);
 
+	// Inventory slots to highlight, rebuilt only when the inventory, config or clues being worked on change
+	private final List<HighlightedSlot> highlightedSlots = new ArrayList<>();
+	private List<Clues> activeClues = new ArrayList<>();
+	private List<Clues> nextActiveClues = new ArrayList<>();
+	private volatile boolean highlightedSlotsDirty = true;
+	private int highlightedStoreVersion;
+
+	@Value
+	private static class HighlightedSlot
+	{
+		int slot;
+		int itemId;
+		Color color;
+	}
+
 	@Inject
-	public ClueDetailsWidgetOverlay(Client client, ClueDetailsPlugin clueDetailsPlugin, ClueDetailsConfig config, ConfigManager configManager, ItemManager itemManager)
+	public ClueDetailsWidgetOverlay(Client client, ClueDetailsConfig config, ClueDetailsStore clueDetailsStore, ItemManager itemManager)
 	{
-		this.clueDetailsPlugin = clueDetailsPlugin;
 		this.itemManager = itemManager;
 		setPriority(PRIORITY_HIGHEST);
 		setLayer(OverlayLayer.ABOVE_WIDGETS);
@@ -73,7 +90,7 @@ public class ClueDetailsWidgetOverlay extends OverlayPanel
 
 		this.client = client;
 		this.config = config;
-		this.configManager = configManager;
+		this.clueDetailsStore = clueDetailsStore;
 	}
 
 	@Override
@@ -108,11 +125,11 @@ public class ClueDetailsWidgetOverlay extends OverlayPanel
 				Color color = TITLED_CONTENT_COLOR;
 				if (config.colorInventoryCluesOverlay())
 				{
-					color = clue.getDetailColor(configManager);
+					color = clue.getDetailColor(clueDetailsStore);
 				}
 
 				panelComponent.getChildren().add(LineComponent.builder()
-					.left(clue.getDetail(configManager))
+					.left(clue.getDetail(clueDetailsStore))
 					.leftColor(color)
 					.build());
 			}
@@ -128,125 +145,144 @@ public class ClueDetailsWidgetOverlay extends OverlayPanel
 				Color color = TITLED_CONTENT_COLOR;
 				if (config.colorInventoryCluesOverlay())
 				{
-					color = cluePart.getDetailColor(configManager);
+					color = cluePart.getDetailColor(clueDetailsStore);
 				}
 
 				panelComponent.getChildren().add(LineComponent.builder()
-					.left(cluePart.getDetail(configManager))
+					.left(cluePart.getDetail(clueDetailsStore))
 					.leftColor(color)
 					.build());
 			}
 		}
 	}
 
-	private void createHighlightInventoryClueItems(Graphics2D graphics)
+	@Subscribe
+	public void onItemContainerChanged(ItemContainerChanged event)
 	{
-		ItemContainer inventory = client.getItemContainer(InventoryID.INVENTORY);
-		if (inventory == null || clueInventoryManager == null ) return;
-
-		// Highlight for easy-elite clues
-		for (Clues clue : clueInventoryManager.getCluesInInventory())
+		if (event.getContainerId() == InventoryID.INVENTORY.getId())
 		{
-			if (clue == null) continue;
-
-			if (isEnabled(clue))
-			{
-				checkInvAndHighlightItems(graphics, clue);
-			}
-		}
-
-		// Highlight for beginner and master clues
-		for (Integer itemID : clueInventoryManager.getTrackedCluesInInventory())
-		{
-			if (itemID == null) continue;
-			ClueInstance instance = clueInventoryManager.getTrackedClueByClueItemId(itemID);
-			if (instance == null) continue;
-
-			instance.getClueIds().forEach((clueId) -> {
-				Clues clue = Clues.forClueIdFiltered(clueId);
-				if (clue == null) return;
-				if (isEnabled(clue))
-				{
-					checkInvAndHighlightItems(graphics, clue);
-				}
-			});
+			highlightedSlotsDirty = true;
 		}
 	}
 
-	private boolean isEnabled(Clues clue)
+	/**
+	 * Rebuilds the highlighted slots on the next frame, for when the highlight settings change
+	 */
+	public void invalidateHighlightedSlots()
 	{
-		ClueTier tier = clue.getClueTier();
+		highlightedSlotsDirty = true;
+	}
 
-		if (config == null) return true;
+	private void createHighlightInventoryClueItems(Graphics2D graphics)
+	{
+		if (clueInventoryManager == null) return;
 
-		if (tier == ClueTier.BEGINNER)
-		{
-			return config.beginnerDetails();
-		}
-		if (tier == ClueTier.EASY)
-		{
-			return config.easyDetails();
-		}
-		if (tier == ClueTier.MEDIUM || tier == ClueTier.MEDIUM_CHALLENGE || tier == ClueTier.MEDIUM_KEY)
+		// Clues being worked on can change without the inventory changing, so compare the small active list each frame
+		List<Clues> active = collectActiveClues();
+		// Item lists and clue colours come from the store
+		int storeVersion = clueDetailsStore.getVersion();
+		if (highlightedSlotsDirty || storeVersion != highlightedStoreVersion || !active.equals(activeClues))
 		{
-			return config.mediumDetails();
+			highlightedStoreVersion = storeVersion;
+			List<Clues> previous = activeClues;
+			activeClues = active;
+			nextActiveClues = previous;
+			rebuildHighlightedSlots();
 		}
-		if (tier == ClueTier.HARD || tier == ClueTier.HARD_CHALLENGE)
+
+		if (highlightedSlots.isEmpty()) return;
+
+		Widget inventoryWidget = getInventoryWidget();
+		if (inventoryWidget == null || inventoryWidget.isHidden())
 		{
-			return config.hardDetails();
+			return;
 		}
-		if (tier == ClueTier.ELITE || tier == ClueTier.ELITE_CHALLENGE)
+
+		Widget[] items = inventoryWidget.getDynamicChildren();
+		if (items == null)
 		{
-			return config.eliteDetails();
+			return;
 		}
-		if (tier == ClueTier.MASTER)
+
+		for (HighlightedSlot highlightedSlot : highlightedSlots)
 		{
-			return config.masterDetails();
+			if (highlightedSlot.getSlot() >= items.length) continue;
+			Widget item = items[highlightedSlot.getSlot()];
+			if (item.getItemId() != highlightedSlot.getItemId()) continue;
+			renderItemOverlay(graphics, item, highlightedSlot.getColor());
 		}
-		return true;
 	}
 
-	protected Widget getInventoryWidget()
-	{
-		return client.getWidget(ComponentID.INVENTORY_CONTAINER);
-	}
-
-	private void checkInvAndHighlightItems(Graphics2D graphics, Clues clue)
+	private List<Clues> collectActiveClues()
 	{
-		List<Integer> highlightItems = clue.getItems(clueDetailsPlugin, configManager);
+		List<Clues> active = nextActiveClues;
+		active.clear();
 
-		if (highlightItems == null)
+		// Easy-elite clues
+		for (Clues clue : clueInventoryManager.getCluesInInventory())
 		{
-			return;
+			if (clue != null && clue.isEnabled())
+			{
+				active.add(clue);
+			}
 		}
 
-		Widget inventoryWidget = getInventoryWidget();
-		if (inventoryWidget == null || inventoryWidget.isHidden())
+		// Beginner and master clues
+		for (Integer itemID : clueInventoryManager.getTrackedCluesInInventory())
 		{
-			return;
-		}
+			if (itemID == null) continue;
+			ClueInstance instance = clueInventoryManager.getTrackedClueByClueItemId(itemID);
+			if (instance == null) continue;
 
-		if (inventoryWidget.getDynamicChildren() == null)
-		{
-			return;
+			for (Integer clueId : instance.getClueIds())
+			{
+				Clues clue = Clues.forClueIdFiltered(clueId);
+				if (clue != null && clue.isEnabled())
+				{
+					active.add(clue);
+				}
+			}
 		}
 
-		for (Widget item : inventoryWidget.getDynamicChildren())
+		return active;
+	}
+
+	private void rebuildHighlightedSlots()
+	{
+		highlightedSlotsDirty = false;
+		highlightedSlots.clear();
+
+		ItemContainer inventory = client.getItemContainer(InventoryID.INVENTORY);
+		if (inventory == null || activeClues.isEmpty()) return;
+
+		Item[] items = inventory.getItems();
+		for (int slot = 0; slot < items.length; slot++)
 		{
-			if (highlightItems.contains(item.getItemId()))
+			int itemId = items[slot].getId();
+			Set<Integer> highlightingClues = clueDetailsStore.getCluesForItem(itemId);
+			if (highlightingClues.isEmpty()) continue;
+
+			for (Clues clue : activeClues)
 			{
+				if (!highlightingClues.contains(clue.getClueID())) continue;
+
 				Color itemHighlightColor = config.itemHighlightColor();
 
-				Color clueColor = clue.getDetailColor(configManager);
+				Color clueColor = clue.getDetailColor(clueDetailsStore);
 				if (config.colorInventoryClueItems() && clueColor != Color.WHITE)
 				{
 					itemHighlightColor = clueColor;
 				}
-				renderItemOverlay(graphics, item, itemHighlightColor);
+				highlightedSlots.add(new HighlightedSlot(slot, itemId, itemHighlightColor));
 			}
 		}
 	}
 
+	protected Widget getInventoryWidget()
+	{
+		return client.getWidget(ComponentID.INVENTORY_CONTAINER);
+	}
+
 	public void renderItemOverlay(Graphics2D graphics, Widget item, Color color)
 	{
 		Rectangle bounds = item.getBounds();
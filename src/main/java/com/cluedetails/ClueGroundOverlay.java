@@ -40,7 +40,6 @@ import net.runelite.api.Player;
 import net.runelite.api.Point;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
-import net.runelite.client.config.ConfigManager;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -69,20 +68,20 @@ public class ClueGroundOverlay extends Overlay
 	private final StringBuilder itemStringBuilder = new StringBuilder();
 	private final TextComponent textComponent = new TextComponent();
 	private final Map<WorldPoint, Integer> offsetMap = new HashMap<>();
-	private final ConfigManager configManager;
+	private final ClueDetailsStore clueDetailsStore;
 	private final ClueDetailsPlugin plugin;
 	private ClueGroundManager clueGroundManager;
 	private ClueThreeStepSaver clueThreeStepSaver;
 
 	@Inject
-	private ClueGroundOverlay(ClueDetailsPlugin plugin, Client client, ClueDetailsConfig config, ConfigManager configManager, ClueThreeStepSaver clueThreeStepSaver)
+	private ClueGroundOverlay(ClueDetailsPlugin plugin, Client client, ClueDetailsConfig config, ClueDetailsStore clueDetailsStore, ClueThreeStepSaver clueThreeStepSaver)
 	{
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
 		this.plugin = plugin;
 		this.client = client;
 		this.config = config;
-		this.configManager = configManager;
+		this.clueDetailsStore = clueDetailsStore;
 		this.clueThreeStepSaver = clueThreeStepSaver;
 	}
 
@@ -228,7 +227,7 @@ public class ClueGroundOverlay extends Overlay
 				}
 				else
 				{
-					clueText = clueDetails.getDetail(configManager);
+					clueText = clueDetails.getDetail(clueDetailsStore);
 				}
 				itemStringBuilder.append(clueText);
 			}
@@ -241,7 +240,7 @@ public class ClueGroundOverlay extends Overlay
 
 			if (config.colorGroundClues())
 			{
-				color = clueDetails.getDetailColor(configManager);
+				color = clueDetails.getDetailColor(clueDetailsStore);
 			}
 		}
 
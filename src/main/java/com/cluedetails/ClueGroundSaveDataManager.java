@@ -46,7 +46,7 @@ public class ClueGroundSaveDataManager
 	public ClueGroundSaveDataManager(ConfigManager configManager, Gson gson)
 	{
 		this.configManager = configManager;
-		this.gson = gson;
+		this.gson = ClueGsonAdapters.register(gson);
 	}
 
 	public void saveStateToConfig(Client client, Map<WorldPoint, List<ClueInstance>> groundClues)
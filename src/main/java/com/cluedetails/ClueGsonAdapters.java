@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2024, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import com.google.common.primitives.Ints;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.awt.Color;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.client.util.ColorUtil;
+
+/**
+ * Streaming adapters for the types the plugin saves and shares, reading and writing each field directly
+ * rather than through reflection. The JSON matches what was written before, so older saves and shared
+ * details still load.
+ */
+final class ClueGsonAdapters
+{
+	static final TypeAdapter<Color> COLOR = new ColorAdapter().nullSafe();
+	static final TypeAdapter<ClueIdToDetails> CLUE_ID_TO_DETAILS = new ClueIdToDetailsAdapter().nullSafe();
+	static final TypeAdapter<ClueInstanceData> CLUE_INSTANCE_DATA = new ClueInstanceDataAdapter().nullSafe();
+
+	private ClueGsonAdapters()
+	{
+	}
+
+	/**
+	 * @return a Gson with the adapters added to the given one's settings
+	 */
+	static Gson register(Gson gson)
+	{
+		return gson.newBuilder()
+			.registerTypeAdapter(Color.class, COLOR)
+			.registerTypeAdapter(ClueIdToDetails.class, CLUE_ID_TO_DETAILS)
+			.registerTypeAdapter(ClueInstanceData.class, CLUE_INSTANCE_DATA)
+			.create();
+	}
+
+	/**
+	 * Writes {@code {"value": argb}}. Reads that, older objects with more fields, hex strings and plain numbers.
+	 */
+	private static class ColorAdapter extends TypeAdapter<Color>
+	{
+		@Override
+		public void write(JsonWriter out, Color color) throws IOException
+		{
+			out.beginObject();
+			out.name("value").value(color.getRGB());
+			out.endObject();
+		}
+
+		@Override
+		public Color read(JsonReader in) throws IOException
+		{
+			switch (in.peek())
+			{
+				case NUMBER:
+					return new Color(in.nextInt(), true);
+				case STRING:
+					String hex = in.nextString();
+					Color color = ColorUtil.fromHex(hex);
+					if (color == null)
+					{
+						throw new NumberFormatException("Invalid color: " + hex);
+					}
+					return color;
+				default:
+					int argb = 0;
+					in.beginObject();
+					while (in.hasNext())
+					{
+						if ("value".equals(in.nextName()))
+						{
+							argb = in.nextInt();
+						}
+						else
+						{
+							in.skipValue();
+						}
+					}
+					in.endObject();
+					return new Color(argb, true);
+			}
+		}
+	}
+
+	private static class ClueIdToDetailsAdapter extends TypeAdapter<ClueIdToDetails>
+	{
+		@Override
+		public void write(JsonWriter out, ClueIdToDetails details) throws IOException
+		{
+			out.beginObject();
+			out.name("id").value(details.id);
+			if (details.text != null)
+			{
+				out.name("text").value(details.text);
+			}
+			if (details.color != null)
+			{
+				out.name("color");
+				COLOR.write(out, details.color);
+			}
+			if (details.itemIds != null)
+			{
+				out.name("itemIds");
+				writeInts(out, details.itemIds);
+			}
+			out.endObject();
+		}
+
+		@Override
+		public ClueIdToDetails read(JsonReader in) throws IOException
+		{
+			int id = 0;
+			String text = null;
+			Color color = null;
+			int[] itemIds = null;
+
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "id":
+						id = in.nextInt();
+						break;
+					case "text":
+						text = readString(in);
+						break;
+					case "color":
+						color = COLOR.read(in);
+						break;
+					case "itemIds":
+						itemIds = readInts(in);
+						break;
+					default:
+						in.skipValue();
+				}
+			}
+			in.endObject();
+			return new ClueIdToDetails(id, text, color, itemIds);
+		}
+	}
+
+	private static class ClueInstanceDataAdapter extends TypeAdapter<ClueInstanceData>
+	{
+		@Override
+		public void write(JsonWriter out, ClueInstanceData data) throws IOException
+		{
+			out.beginObject();
+			if (data.getClueIds() != null)
+			{
+				out.name("clueIds");
+				out.beginArray();
+				for (Integer clueId : data.getClueIds())
+				{
+					out.value(clueId);
+				}
+				out.endArray();
+			}
+			out.name("itemId").value(data.getItemId());
+			out.name("despawnTick").value(data.getDespawnTick());
+			out.name("x").value(data.getX());
+			out.name("y").value(data.getY());
+			out.name("plane").value(data.getPlane());
+			out.endObject();
+		}
+
+		@Override
+		public ClueInstanceData read(JsonReader in) throws IOException
+		{
+			List<Integer> clueIds = null;
+			int itemId = 0;
+			int despawnTick = 0;
+			int x = 0;
+			int y = 0;
+			int plane = 0;
+
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "clueIds":
+						int[] ids = readInts(in);
+						// Shared with equal lists, as the clue instances built from this would do anyway
+						clueIds = ids == null ? null : ClueInterner.clueIds(Ints.asList(ids));
+						break;
+					case "itemId":
+						itemId = in.nextInt();
+						break;
+					case "despawnTick":
+						despawnTick = in.nextInt();
+						break;
+					case "x":
+						x = in.nextInt();
+						break;
+					case "y":
+						y = in.nextInt();
+						break;
+					case "plane":
+						plane = in.nextInt();
+						break;
+					default:
+						in.skipValue();
+				}
+			}
+			in.endObject();
+			return new ClueInstanceData(clueIds, itemId, despawnTick, x, y, plane);
+		}
+	}
+
+	private static String readString(JsonReader in) throws IOException
+	{
+		if (in.peek() == JsonToken.NULL)
+		{
+			in.nextNull();
+			return null;
+		}
+		return in.nextString();
+	}
+
+	private static void writeInts(JsonWriter out, int[] values) throws IOException
+	{
+		out.beginArray();
+		for (int value : values)
+		{
+			out.value(value);
+		}
+		out.endArray();
+	}
+
+	/**
+	 * @return the array's values, skipping nulls, or null if the array itself is null
+	 */
+	private static int[] readInts(JsonReader in) throws IOException
+	{
+		if (in.peek() == JsonToken.NULL)
+		{
+			in.nextNull();
+			return null;
+		}
+
+		int[] values = new int[8];
+		int count = 0;
+		in.beginArray();
+		while (in.hasNext())
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				continue;
+			}
+			if (count == values.length)
+			{
+				values = Arrays.copyOf(values, count * 2);
+			}
+			values[count++] = in.nextInt();
+		}
+		in.endArray();
+		return Arrays.copyOf(values, count);
+	}
+}
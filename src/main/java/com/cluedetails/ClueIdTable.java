@@ -22,45 +22,63 @@
  * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
  * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
-package com.cluedetails.filters;
+package com.cluedetails;
 
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-import net.runelite.api.coords.WorldPoint;
 
-public class OrRequirement extends AbstractRequirement
+/**
+ * Open addressing table from an int key to a {@link Clues}, allowing lookups without boxing or list scans.
+ */
+class ClueIdTable
 {
-	public OrRequirement(WorldPoint... wps)
+	private static final int EMPTY = Integer.MIN_VALUE;
+
+	private final int[] keys;
+	private final Clues[] values;
+	private final int mask;
+
+	ClueIdTable(int expectedSize)
 	{
-		this.wps = List.of(wps);
-		this.regions = findRegions();
+		// Keep the load factor at or below 0.5 so probe chains stay short
+		int capacity = Integer.highestOneBit(Math.max(2, expectedSize * 2) - 1) << 1;
+		keys = new int[capacity];
+		values = new Clues[capacity];
+		mask = capacity - 1;
+		Arrays.fill(keys, EMPTY);
 	}
 
-	public OrRequirement(List<WorldPoint> wps)
+	/**
+	 * Adds the clue under the key, keeping the first clue if the key is already present.
+	 *
+	 * @return the clue already stored for the key, or null if the clue was added
+	 */
+	Clues putIfAbsent(int key, Clues clue)
 	{
-		this.wps = wps;
-		this.regions = findRegions();
+		int slot = slot(key);
+		while (keys[slot] != EMPTY)
+		{
+			if (keys[slot] == key) return values[slot];
+			slot = (slot + 1) & mask;
+		}
+		keys[slot] = key;
+		values[slot] = clue;
+		return null;
 	}
 
-	@Override
-	public boolean isRegionValid(ClueRegion clueRegionToCheck)
+	Clues get(int key)
 	{
-		return regions.contains(clueRegionToCheck);
+		int slot = slot(key);
+		while (keys[slot] != EMPTY)
+		{
+			if (keys[slot] == key) return values[slot];
+			slot = (slot + 1) & mask;
+		}
+		return null;
 	}
 
-	private List<ClueRegion> findRegions()
+	private int slot(int key)
 	{
-		return wps.stream()
-			.flatMap(wp ->
-				Arrays.stream(ClueRegion.values())
-					.filter(region ->
-						Arrays.stream(region.getZones())
-							.anyMatch(zone -> zone.contains(wp))
-					)
-			)
-			.distinct()
-			.collect(Collectors.toList());
+		int hash = key * 0x9E3779B9;
+		return (hash ^ (hash >>> 16)) & mask;
 	}
 }
-
@@ -25,7 +25,6 @@
 package com.cluedetails;
 
 import java.awt.Color;
-import java.util.List;
 import lombok.Data;
 
 @Data
@@ -34,7 +33,7 @@ public class ClueIdToDetails
 	int id;
 	String text;
 	Color color;
-	List<Integer> itemIds;
+	int[] itemIds;
 
 	public ClueIdToDetails(int id, String text)
 	{
@@ -48,7 +47,7 @@ public class ClueIdToDetails
 		this.color = color;
 	}
 
-	public ClueIdToDetails(int id, List<Integer> itemIds)
+	public ClueIdToDetails(int id, int[] itemIds)
 	{
 		this.id = id;
 		this.itemIds = itemIds;
@@ -61,21 +60,21 @@ public class ClueIdToDetails
 		this.color = color;
 	}
 
-	public ClueIdToDetails(int id, String text, List<Integer> itemIds)
+	public ClueIdToDetails(int id, String text, int[] itemIds)
 	{
 		this.id = id;
 		this.text = text;
 		this.itemIds = itemIds;
 	}
 
-	public ClueIdToDetails(int id, Color color, List<Integer> itemIds)
+	public ClueIdToDetails(int id, Color color, int[] itemIds)
 	{
 		this.id = id;
 		this.color = color;
 		this.itemIds = itemIds;
 	}
 
-	public ClueIdToDetails(int id, String text, Color color, List<Integer> itemIds)
+	public ClueIdToDetails(int id, String text, Color color, int[] itemIds)
 	{
 		this.id = id;
 		this.text = text;
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.util.Text;
+
+/**
+ * Lookup tables derived from {@link Clues#CLUES}, built in a single pass when first used.
+ * Entries which would shadow an earlier clue are reported, as only the first one can ever be found.
+ */
+@Slf4j
+final class ClueIndex
+{
+	// Easy to elite clues, which are identified by their item ID alone
+	static final ClueIdTable BY_ITEM_ID;
+	static final ClueIdTable BY_CLUE_ID;
+	// Map clues store the interface ID they are displayed with as their item ID
+	static final ClueIdTable BY_INTERFACE_ID;
+	// Normalized clue text to clue
+	static final Map<String, Clues> BY_TEXT;
+
+	static
+	{
+		BY_ITEM_ID = new ClueIdTable(Clues.CLUES.size());
+		BY_CLUE_ID = new ClueIdTable(Clues.CLUES.size());
+		BY_INTERFACE_ID = new ClueIdTable(8);
+		BY_TEXT = new HashMap<>();
+
+		for (Clues clue : Clues.CLUES)
+		{
+			if (!clue.hasOwnClueId())
+			{
+				warnIfShadowed(BY_ITEM_ID.putIfAbsent(clue.getItemID(), clue), clue, "item ID");
+			}
+			warnIfShadowed(BY_CLUE_ID.putIfAbsent(clue.getClueID(), clue), clue, "clue ID");
+
+			if (isMapClue(clue))
+			{
+				warnIfShadowed(BY_INTERFACE_ID.putIfAbsent(clue.getItemID(), clue), clue, "interface ID");
+			}
+
+			if (clue.getClueText() != null)
+			{
+				warnIfShadowed(BY_TEXT.putIfAbsent(normalizeText(clue.getClueText()), clue), clue, "clue text");
+			}
+		}
+	}
+
+	// Clues with their own ID are normally read from a tracked clue item. Any other item ID is the map interface.
+	private static boolean isMapClue(Clues clue)
+	{
+		return clue.hasOwnClueId() && !Clues.isTrackedClue(clue.getItemID(), false);
+	}
+
+	private static void warnIfShadowed(Clues existing, Clues clue, String key)
+	{
+		if (existing != null)
+		{
+			log.warn("Clue '{}' has the same {} as '{}' and will never be matched", clue.getClueDetail(), key, existing.getClueDetail());
+		}
+	}
+
+	static String normalizeText(String text)
+	{
+		return Text.sanitizeMultilineText(text).toLowerCase();
+	}
+
+	private ClueIndex()
+	{
+	}
+}
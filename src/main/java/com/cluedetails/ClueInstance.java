@@ -24,20 +24,16 @@
  */
 package com.cluedetails;
 
-import java.awt.Color;
 import java.util.List;
 import lombok.Data;
 import lombok.Getter;
-import lombok.Setter;
 import net.runelite.api.ItemID;
 import net.runelite.api.TileItem;
 import net.runelite.api.coords.WorldPoint;
-import net.runelite.client.config.ConfigManager;
 
 @Data
 public class ClueInstance
 {
-	@Setter
 	private List<Integer> clueIds; // Fake ID from ClueText
 	private final int itemId; // Clue item ID
 	private final WorldPoint location; // Null if in inventory
@@ -45,11 +41,13 @@ public class ClueInstance
 	@Getter
 	private final Integer timeToDespawnFromDataInTicks;
 	private TileItem tileItem;
+	// Parsed steps when this is a three-step cryptic clue. Not persisted, and rebuilt from clueIds when needed
+	private transient ThreeStepCrypticClue threeStepCrypticClue;
 
 	// Constructor for clues from config
 	public ClueInstance(ClueInstanceData data)
 	{
-		this.clueIds = data.getClueIds();
+		this.clueIds = ClueInterner.clueIds(data.getClueIds());
 		this.itemId = data.getItemId();
 		this.location = data.getLocation();
 		// if had on then turned off in same session, we don't know what happened in meantime.
@@ -61,7 +59,7 @@ public class ClueInstance
 	// Constructor for inventory clues from inventory changed event
 	public ClueInstance(List<Integer> clueIds, int itemId)
 	{
-		this.clueIds = clueIds;
+		this.clueIds = ClueInterner.clueIds(clueIds);
 		this.itemId = itemId;
 		this.location = null;
 		this.timeToDespawnFromDataInTicks = -1;
@@ -70,13 +68,28 @@ public class ClueInstance
 	// Constructor for ground clues
 	public ClueInstance(List<Integer> clueIds, int itemId, WorldPoint location, TileItem tileItem, int currentTick)
 	{
-		this.clueIds = clueIds;
+		this.clueIds = ClueInterner.clueIds(clueIds);
 		this.itemId = itemId;
-		this.location = location;
+		this.location = ClueInterner.location(location);
 		this.tileItem = tileItem;
 		this.timeToDespawnFromDataInTicks = currentTick;
 	}
 
+	public void setClueIds(List<Integer> clueIds)
+	{
+		this.clueIds = ClueInterner.clueIds(clueIds);
+		this.threeStepCrypticClue = null;
+	}
+
+	public ThreeStepCrypticClue getThreeStepCrypticClue()
+	{
+		if (threeStepCrypticClue == null && clueIds != null && clueIds.size() > 1)
+		{
+			threeStepCrypticClue = ThreeStepCrypticClue.forClueIds(clueIds);
+		}
+		return threeStepCrypticClue;
+	}
+
 	public int getDespawnTick(int currentTick)
 	{
 		if (tileItem != null)
@@ -97,39 +110,11 @@ public class ClueInstance
 		return timeToDespawnFromDataInTicks == null ? -1 : timeToDespawnFromDataInTicks;
 	}
 
-	public String getCombinedClueText(ClueDetailsPlugin plugin, ConfigManager configManager, boolean showColor, boolean isFloorText)
+	public String getCombinedClueText(ClueDetailsPlugin plugin, ClueLabelCache clueLabelCache, boolean showColor, boolean isFloorText)
 	{
-		StringBuilder returnText = new StringBuilder();
-		boolean isFirst = true;
-		for (Integer clueId : getClueIds())
-		{
-			Clues cluePart = Clues.forClueId(clueId);
-			if (cluePart == null) continue;
-			if (isFirst)
-			{
-				isFirst = false;
-			}
-			else
-			{
-				returnText.append("<br>");
-			}
-
-			if (showColor)
-			{
-				Color color = cluePart.getDetailColor(configManager);
-
-				// Only change floor text color if it's not the default
-				if (!(isFloorText && color == Color.WHITE))
-				{
-					String hexColor = Integer.toHexString(color.getRGB()).substring(2);
-					returnText.append("<col=").append(hexColor).append(">");
-				}
-			}
-
-			returnText.append(cluePart.getDetail(configManager));
-		}
-		if (returnText.length() == 0) return getItemName(plugin);
-		return returnText.toString();
+		String text = clueLabelCache.getCombinedLabel(getClueIds(), showColor, isFloorText);
+		if (text.isEmpty()) return getItemName(plugin);
+		return text;
 	}
 
 	public String getItemName(ClueDetailsPlugin plugin)
@@ -50,8 +50,18 @@ public class ClueInstanceData
 		this.plane = clue.getLocation().getPlane();
 	}
 
+	ClueInstanceData(List<Integer> clueIds, int itemId, int despawnTick, int x, int y, int plane)
+	{
+		this.clueIds = clueIds;
+		this.itemId = itemId;
+		this.despawnTick = despawnTick;
+		this.x = x;
+		this.y = y;
+		this.plane = plane;
+	}
+
 	public WorldPoint getLocation()
 	{
-		return new WorldPoint(x, y, plane);
+		return ClueInterner.location(x, y, plane);
 	}
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2024, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Shared instances of the values clue instances and the catalog repeat, so that equal ones are only held once
+ * and can usually be compared by reference.
+ */
+final class ClueInterner
+{
+	// Ground clues are only kept for a limited time, so the pools are emptied rather than growing for the whole session
+	private static final int MAX_POOL_SIZE = 4096;
+
+	private static final Map<Integer, WorldPoint> LOCATIONS = new ConcurrentHashMap<>();
+	private static final Map<List<Integer>, List<Integer>> CLUE_IDS = new ConcurrentHashMap<>();
+
+	private ClueInterner()
+	{
+	}
+
+	static WorldPoint location(int x, int y, int plane)
+	{
+		return intern(LOCATIONS, ClueCatalogStore.pack(x, y, plane), () -> new WorldPoint(x, y, plane));
+	}
+
+	static WorldPoint location(WorldPoint wp)
+	{
+		if (wp == null) return null;
+		return intern(LOCATIONS, ClueCatalogStore.pack(wp.getX(), wp.getY(), wp.getPlane()), () -> wp);
+	}
+
+	/**
+	 * @return an unmodifiable list equal to clueIds, shared with any other equal list
+	 */
+	static List<Integer> clueIds(List<Integer> clueIds)
+	{
+		// List.copyOf doesn't allow nulls, and the list is already as small as it can get if it's empty
+		if (clueIds == null || clueIds.isEmpty() || clueIds.contains(null)) return clueIds;
+
+		List<Integer> existing = CLUE_IDS.get(clueIds);
+		if (existing != null) return existing;
+
+		List<Integer> copy = List.copyOf(clueIds);
+		return intern(CLUE_IDS, copy, () -> copy);
+	}
+
+	private static <K, V> V intern(Map<K, V> pool, K key, Supplier<V> value)
+	{
+		V existing = pool.get(key);
+		if (existing != null) return existing;
+
+		if (pool.size() >= MAX_POOL_SIZE)
+		{
+			pool.clear();
+		}
+		return pool.computeIfAbsent(key, k -> value.get());
+	}
+}
@@ -45,7 +45,6 @@ import net.runelite.api.widgets.ComponentID;
 import net.runelite.api.widgets.InterfaceID;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetUtil;
-import net.runelite.client.config.ConfigManager;
 import net.runelite.client.game.chatbox.ChatboxPanelManager;
 
 @Slf4j
@@ -53,7 +52,7 @@ import net.runelite.client.game.chatbox.ChatboxPanelManager;
 public class ClueInventoryManager
 {
 	private final Client client;
-	private final ConfigManager configManager;
+	private final ClueDetailsStore clueDetailsStore;
 	private final ClueDetailsPlugin clueDetailsPlugin;
 	private final ClueGroundManager clueGroundManager;
 	private final ClueBankManager clueBankManager;
@@ -67,11 +66,11 @@ public class ClueInventoryManager
 	@Setter
 	public static ClueDetailsConfig config;
 
-	public ClueInventoryManager(Client client, ConfigManager configManager, ClueDetailsPlugin clueDetailsPlugin, ClueGroundManager clueGroundManager,
+	public ClueInventoryManager(Client client, ClueDetailsStore clueDetailsStore, ClueDetailsPlugin clueDetailsPlugin, ClueGroundManager clueGroundManager,
 								ClueBankManager clueBankManager, ChatboxPanelManager chatboxPanelManager)
 	{
 		this.client = client;
-		this.configManager = configManager;
+		this.clueDetailsStore = clueDetailsStore;
 		this.clueDetailsPlugin = clueDetailsPlugin;
 		this.clueGroundManager = clueGroundManager;
 		this.clueBankManager = clueBankManager;
@@ -189,6 +188,7 @@ public class ClueInventoryManager
 			if (clueInfo == null) continue;
 			if (!Objects.equals(clueInfo.getItemID(), itemID)) continue;
 			clueInstance.setClueIds(clueIds);
+			clueInstance.setThreeStepCrypticClue(threeStepCrypticClue);
 			break;
 		}
 	}
@@ -196,10 +196,10 @@ public class ClueInventoryManager
 	// Only used for Beginner Map Clues
 	public void updateClueText(Integer interfaceId)
 	{
-		List<Integer> clueIds = new ArrayList<>();
-
 		// Beginner Map Clues all use the same ItemID, but the InterfaceID used to display them is unique
-		clueIds.add(Clues.forInterfaceIdGetId(interfaceId));
+		Integer clueId = Clues.forInterfaceIdGetId(interfaceId);
+		if (clueId == null) return;
+		List<Integer> clueIds = List.of(clueId);
 
 		// Assume can only be beginner for now
 		ClueInstance beginnerClueInInv = trackedCluesInInventory.get(ItemID.CLUE_SCROLL_BEGINNER);
@@ -351,7 +351,7 @@ public class ClueInventoryManager
 				log.debug("Failed to find clue " + id);
 				return;
 			}
-			String newOption = option == null ? clue.getDetail(configManager) : option;
+			String newOption = option == null ? clue.getDetail(clueDetailsStore) : option;
 			String newTarget = target == null ? "" : target;
 			addClueDetailsMenuEntry(panel, menu, newOption, newTarget, clue);
 		}
@@ -365,10 +365,10 @@ public class ClueInventoryManager
 			.setType(MenuAction.RUNELITE)
 			.onClick(e ->
 				chatboxPanelManager.openTextInput("Enter new clue detail:")
-					.value(clue.getDetail(configManager))
+					.value(clue.getDetail(clueDetailsStore))
 					.onDone((newDetail) ->
 					{
-						configManager.setConfiguration("clue-details-text", String.valueOf(clue.getClueID()), newDetail);
+						clueDetailsStore.setText(clue.getClueID(), newDetail);
 						panel.refresh();
 					})
 					.build());
@@ -381,7 +381,7 @@ public class ClueInventoryManager
 		boolean itemInCluePreference = cluePreferenceManager.itemsPreferenceContainsItem(clue.getClueID(), itemId);
 
 		String action = itemInCluePreference ? "Remove from " : "Add to ";
-		String clueDetail = clue.getDetail(configManager);
+		String clueDetail = clue.getDetail(clueDetailsStore);
 		final String text = action + "'" + clueDetail + "'";
 
 		// Add menu to item for clue
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2024, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.awt.Color;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Formatted clue labels, including their {@code <col=...>} markup, so menus and tooltips can reuse the same strings
+ * every frame. Everything is rebuilt after a clue's text or color is changed.
+ */
+@Singleton
+public class ClueLabelCache
+{
+	private static final int PLAIN = 0;
+	private static final int COLORED = 1;
+	private static final int FLOOR = 2;
+	// Three-step labels are cached for each combination of completed steps, which is only practical for a few steps
+	private static final int MAX_CACHED_STEPS = 4;
+
+	private final ClueDetailsStore clueDetailsStore;
+
+	private final Map<Clues, String[]> clueLabels = new ConcurrentHashMap<>();
+	private final Map<List<Integer>, String[]> combinedLabels = new ConcurrentHashMap<>();
+	private final Map<List<Integer>, String[]> threeStepLabels = new ConcurrentHashMap<>();
+	private final Map<Integer, String> colorTags = new ConcurrentHashMap<>();
+	private volatile int version = -1;
+
+	@Inject
+	public ClueLabelCache(ClueDetailsStore clueDetailsStore)
+	{
+		this.clueDetailsStore = clueDetailsStore;
+	}
+
+	/**
+	 * @param isFloorText whether the label is for a clue on the floor, which keeps the default color
+	 */
+	public String getLabel(Clues clue, boolean showColor, boolean isFloorText)
+	{
+		checkVersion();
+		String[] labels = clueLabels.computeIfAbsent(clue, c -> new String[3]);
+		int variant = variant(showColor, isFloorText);
+		if (labels[variant] == null)
+		{
+			labels[variant] = buildLabel(clue, showColor, isFloorText);
+		}
+		return labels[variant];
+	}
+
+	/**
+	 * @return the labels of each known clue joined by line breaks, or an empty string if none are known
+	 */
+	public String getCombinedLabel(List<Integer> clueIds, boolean showColor, boolean isFloorText)
+	{
+		checkVersion();
+		String[] labels = combinedLabels.computeIfAbsent(clueIds, ids -> new String[3]);
+		int variant = variant(showColor, isFloorText);
+		if (labels[variant] == null)
+		{
+			StringBuilder text = new StringBuilder();
+			for (Integer clueId : clueIds)
+			{
+				Clues cluePart = Clues.forClueId(clueId);
+				if (cluePart == null) continue;
+				if (text.length() > 0)
+				{
+					text.append("<br>");
+				}
+				text.append(getLabel(cluePart, showColor, isFloorText));
+			}
+			labels[variant] = text.toString();
+		}
+		return labels[variant];
+	}
+
+	/**
+	 * @return the labels of the steps not yet completed, each followed by a line break
+	 */
+	public String getThreeStepLabel(ThreeStepCrypticClue clue, boolean showColor)
+	{
+		checkVersion();
+		List<Map.Entry<Clues, Boolean>> steps = clue.getClueSteps();
+		if (steps.size() > MAX_CACHED_STEPS)
+		{
+			return buildThreeStepLabel(steps, showColor);
+		}
+
+		int index = showColor ? 1 << steps.size() : 0;
+		for (int i = 0; i < steps.size(); i++)
+		{
+			if (steps.get(i).getValue())
+			{
+				index |= 1 << i;
+			}
+		}
+
+		String[] labels = threeStepLabels.computeIfAbsent(clue.getClueIds(), ids -> new String[2 << steps.size()]);
+		if (labels[index] == null)
+		{
+			labels[index] = buildThreeStepLabel(steps, showColor);
+		}
+		return labels[index];
+	}
+
+	/**
+	 * @return the {@code <col=...>} tag for the color
+	 */
+	public String getColorTag(Color color)
+	{
+		return colorTags.computeIfAbsent(color.getRGB(), rgb -> "<col=" + Integer.toHexString(rgb).substring(2) + ">");
+	}
+
+	private String buildLabel(Clues clue, boolean showColor, boolean isFloorText)
+	{
+		String text = clue.getDetail(clueDetailsStore);
+		if (showColor)
+		{
+			Color color = clue.getDetailColor(clueDetailsStore);
+
+			// Only change floor text color if it's not the default
+			if (!(isFloorText && color == Color.WHITE))
+			{
+				return getColorTag(color) + text;
+			}
+		}
+		return text;
+	}
+
+	private String buildThreeStepLabel(List<Map.Entry<Clues, Boolean>> steps, boolean showColor)
+	{
+		StringBuilder text = new StringBuilder();
+		for (Map.Entry<Clues, Boolean> step : steps)
+		{
+			if (!step.getValue())
+			{
+				text.append(getLabel(step.getKey(), showColor, false)).append("<br>");
+			}
+		}
+		return text.toString();
+	}
+
+	private static int variant(boolean showColor, boolean isFloorText)
+	{
+		if (!showColor) return PLAIN;
+		return isFloorText ? FLOOR : COLORED;
+	}
+
+	/**
+	 * Drops every label, for when the clues they are built from may have changed
+	 */
+	public void invalidate()
+	{
+		version = -1;
+	}
+
+	private void checkVersion()
+	{
+		int storeVersion = clueDetailsStore.getLabelVersion();
+		if (version != storeVersion)
+		{
+			clueLabels.clear();
+			combinedLabels.clear();
+			threeStepLabels.clear();
+			version = storeVersion;
+		}
+	}
+}
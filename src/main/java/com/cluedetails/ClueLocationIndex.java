@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2024, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Uniform grid over every clue step location, with one cell per map square.
+ * Distances are measured the same way as {@link WorldPoint#distanceTo(WorldPoint)}, so only steps on the same plane match.
+ */
+public class ClueLocationIndex
+{
+	private static final int CELL_SHIFT = 6;
+	private static final int CELL_SIZE = 1 << CELL_SHIFT;
+
+	private final int minCellX;
+	private final int minCellY;
+	private final int cellsWide;
+	private final int cellsHigh;
+
+	// Points of cell i are at indices cellStart[i] until cellStart[i + 1]
+	private final int[] cellStart;
+	private final int[] xs;
+	private final int[] ys;
+	private final int[] planes;
+	private final Clues[] clues;
+
+	private static class Holder
+	{
+		private static final ClueLocationIndex INSTANCE = new ClueLocationIndex(Clues.CLUES);
+	}
+
+	public static ClueLocationIndex getInstance()
+	{
+		return Holder.INSTANCE;
+	}
+
+	ClueLocationIndex(List<Clues> catalog)
+	{
+		List<WorldPoint> points = new ArrayList<>();
+		List<Clues> pointClues = new ArrayList<>();
+		for (Clues clue : catalog)
+		{
+			for (WorldPoint wp : clue.getWorldPoints())
+			{
+				points.add(wp);
+				pointClues.add(clue);
+			}
+		}
+
+		int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = 0, maxY = 0;
+		for (WorldPoint wp : points)
+		{
+			minX = Math.min(minX, wp.getX() >> CELL_SHIFT);
+			minY = Math.min(minY, wp.getY() >> CELL_SHIFT);
+			maxX = Math.max(maxX, wp.getX() >> CELL_SHIFT);
+			maxY = Math.max(maxY, wp.getY() >> CELL_SHIFT);
+		}
+		if (points.isEmpty())
+		{
+			minX = minY = maxX = maxY = 0;
+		}
+		minCellX = minX;
+		minCellY = minY;
+		cellsWide = maxX - minX + 1;
+		cellsHigh = maxY - minY + 1;
+
+		// Counting sort of the points by cell
+		cellStart = new int[cellsWide * cellsHigh + 1];
+		for (WorldPoint wp : points)
+		{
+			cellStart[cellIndex(wp.getX() >> CELL_SHIFT, wp.getY() >> CELL_SHIFT) + 1]++;
+		}
+		for (int i = 1; i < cellStart.length; i++)
+		{
+			cellStart[i] += cellStart[i - 1];
+		}
+
+		int[] nextInCell = Arrays.copyOf(cellStart, cellStart.length - 1);
+		xs = new int[points.size()];
+		ys = new int[points.size()];
+		planes = new int[points.size()];
+		clues = new Clues[points.size()];
+		for (int i = 0; i < points.size(); i++)
+		{
+			WorldPoint wp = points.get(i);
+			int slot = nextInCell[cellIndex(wp.getX() >> CELL_SHIFT, wp.getY() >> CELL_SHIFT)]++;
+			xs[slot] = wp.getX();
+			ys[slot] = wp.getY();
+			planes[slot] = wp.getPlane();
+			clues[slot] = pointClues.get(i);
+		}
+	}
+
+	/**
+	 * Finds the enabled clues with a step within radius tiles of the location, closest first.
+	 */
+	public List<Clues> withinRadius(WorldPoint location, int radius)
+	{
+		Results results = new Results(Integer.MAX_VALUE);
+		int minX = (location.getX() - radius) >> CELL_SHIFT;
+		int maxX = (location.getX() + radius) >> CELL_SHIFT;
+		int minY = (location.getY() - radius) >> CELL_SHIFT;
+		int maxY = (location.getY() + radius) >> CELL_SHIFT;
+
+		for (int cellX = minX; cellX <= maxX; cellX++)
+		{
+			for (int cellY = minY; cellY <= maxY; cellY++)
+			{
+				scanCell(cellX, cellY, location, radius, results);
+			}
+		}
+		return results.toList();
+	}
+
+	/**
+	 * Finds up to count enabled clues with the closest steps to the location, closest first.
+	 */
+	public List<Clues> nearest(WorldPoint location, int count)
+	{
+		Results results = new Results(count);
+		if (count <= 0) return results.toList();
+
+		int centreX = location.getX() >> CELL_SHIFT;
+		int centreY = location.getY() >> CELL_SHIFT;
+		int maxRing = Math.max(
+			Math.max(Math.abs(centreX - minCellX), Math.abs(centreX - (minCellX + cellsWide - 1))),
+			Math.max(Math.abs(centreY - minCellY), Math.abs(centreY - (minCellY + cellsHigh - 1))));
+
+		for (int ring = 0; ring <= maxRing; ring++)
+		{
+			for (int cellX = centreX - ring; cellX <= centreX + ring; cellX++)
+			{
+				boolean edgeColumn = cellX == centreX - ring || cellX == centreX + ring;
+				int step = edgeColumn ? 1 : ring * 2;
+				for (int cellY = centreY - ring; cellY <= centreY + ring; cellY += Math.max(step, 1))
+				{
+					scanCell(cellX, cellY, location, Integer.MAX_VALUE, results);
+				}
+			}
+
+			// Every point in the next ring is more than ring * CELL_SIZE tiles away
+			if (results.hasLimitWithin(ring * CELL_SIZE))
+			{
+				break;
+			}
+		}
+		return results.toList();
+	}
+
+	private void scanCell(int cellX, int cellY, WorldPoint location, int radius, Results results)
+	{
+		if (cellX < minCellX || cellY < minCellY || cellX >= minCellX + cellsWide || cellY >= minCellY + cellsHigh)
+		{
+			return;
+		}
+
+		int cell = cellIndex(cellX, cellY);
+		for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++)
+		{
+			if (planes[i] != location.getPlane() || !clues[i].isEnabled()) continue;
+
+			int distance = Math.max(Math.abs(xs[i] - location.getX()), Math.abs(ys[i] - location.getY()));
+			if (distance <= radius)
+			{
+				results.offer(clues[i], distance);
+			}
+		}
+	}
+
+	private int cellIndex(int cellX, int cellY)
+	{
+		return (cellX - minCellX) * cellsHigh + (cellY - minCellY);
+	}
+
+	/**
+	 * Distinct clues with the distance of their closest step, sorted once the scan is finished.
+	 */
+	private static class Results
+	{
+		private final int limit;
+		private Clues[] found = new Clues[8];
+		private int[] distances = new int[8];
+		private int size;
+		// Open addressing set of the clues found, holding each one's slot plus one, so a clue's other steps
+		// are matched without a search. Sized to the clues found rather than the whole catalog.
+		private int[] slotTable = new int[16];
+
+		Results(int limit)
+		{
+			this.limit = limit;
+		}
+
+		void offer(Clues clue, int distance)
+		{
+			int ordinal = clue.getOrdinal();
+			int bucket = bucket(ordinal);
+			while (slotTable[bucket] != 0)
+			{
+				int slot = slotTable[bucket] - 1;
+				if (found[slot].getOrdinal() == ordinal)
+				{
+					distances[slot] = Math.min(distances[slot], distance);
+					return;
+				}
+				bucket = (bucket + 1) & (slotTable.length - 1);
+			}
+
+			if (size == found.length)
+			{
+				found = Arrays.copyOf(found, size * 2);
+				distances = Arrays.copyOf(distances, size * 2);
+			}
+			found[size] = clue;
+			distances[size] = distance;
+			slotTable[bucket] = ++size;
+
+			// Keep the load factor at or below 0.5 so probe chains stay short
+			if (size * 2 > slotTable.length)
+			{
+				slotTable = new int[slotTable.length * 2];
+				for (int slot = 0; slot < size; slot++)
+				{
+					int rehashed = bucket(found[slot].getOrdinal());
+					while (slotTable[rehashed] != 0)
+					{
+						rehashed = (rehashed + 1) & (slotTable.length - 1);
+					}
+					slotTable[rehashed] = slot + 1;
+				}
+			}
+		}
+
+		private int bucket(int ordinal)
+		{
+			int hash = ordinal * 0x9E3779B9;
+			return (hash ^ (hash >>> 16)) & (slotTable.length - 1);
+		}
+
+		/**
+		 * @return whether at least limit clues have a step within maxDistance tiles
+		 */
+		boolean hasLimitWithin(int maxDistance)
+		{
+			if (size < limit) return false;
+
+			int within = 0;
+			for (int i = 0; i < size; i++)
+			{
+				if (distances[i] <= maxDistance && ++within >= limit) return true;
+			}
+			return false;
+		}
+
+		List<Clues> toList()
+		{
+			// Distance in the high bits and slot in the low bits, so ties keep the order they were found in
+			long[] order = new long[size];
+			for (int i = 0; i < size; i++)
+			{
+				order[i] = (long) distances[i] << 32 | i;
+			}
+			Arrays.sort(order);
+
+			int count = Math.min(size, limit);
+			List<Clues> sorted = new ArrayList<>(count);
+			for (int i = 0; i < count; i++)
+			{
+				sorted.add(found[(int) order[i]]);
+			}
+			return sorted;
+		}
+	}
+}
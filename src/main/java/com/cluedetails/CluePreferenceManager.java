@@ -24,61 +24,68 @@
  */
 package com.cluedetails;
 
-import static com.cluedetails.ClueDetailsConfig.CLUE_ITEMS_CONFIG;
-import com.google.gson.reflect.TypeToken;
+import com.google.common.primitives.Ints;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
-import net.runelite.client.config.ConfigManager;
 
 public class CluePreferenceManager
 {
-	private final ClueDetailsPlugin clueDetailsPlugin;
-	private final ConfigManager configManager;
+	private final ClueDetailsStore clueDetailsStore;
+	private final Runnable onHighlightsChanged;
 
-	public CluePreferenceManager(ClueDetailsPlugin clueDetailsPlugin, ConfigManager configManager)
+	public CluePreferenceManager(ClueDetailsStore clueDetailsStore, Runnable onHighlightsChanged)
 	{
-		this.clueDetailsPlugin = clueDetailsPlugin;
-		this.configManager = configManager;
+		this.clueDetailsStore = clueDetailsStore;
+		this.onHighlightsChanged = onHighlightsChanged;
 	}
 
 	public boolean getHighlightPreference(int clueID)
 	{
-		return Boolean.TRUE.equals(configManager.getConfiguration("clue-details-highlights",
-			String.valueOf(clueID), Boolean.class));
+		return clueDetailsStore.isMarked(clueID);
 	}
 
-	public void saveHighlightPreference(int clueID, boolean newValue)
+	/**
+	 * @return catalog ordinals of every marked clue
+	 */
+	public BitSet getHighlightedClues()
 	{
-		configManager.setConfiguration("clue-details-highlights", String.valueOf(clueID), newValue);
+		return clueDetailsStore.getMarkedClues();
 	}
 
-	public boolean itemsPreferenceContainsItem(int clueID, int itemID)
+	public void saveHighlightPreference(int clueID, boolean newValue)
 	{
-		List<Integer> clueItemIds = getItemsPreference(clueID);
+		saveHighlightPreferences(List.of(clueID), newValue);
+	}
 
-		if (clueItemIds != null)
+	/**
+	 * Marks or unmarks every given clue at once
+	 */
+	public void saveHighlightPreferences(Collection<Integer> clueIDs, boolean newValue)
+	{
+		if (clueDetailsStore.setMarked(clueIDs, newValue))
 		{
-			return getItemsPreference(clueID).contains(itemID);
+			onHighlightsChanged.run();
 		}
-		return false;
 	}
 
-	public List<Integer> getItemsPreference(int clueID)
+	public boolean itemsPreferenceContainsItem(int clueID, int itemID)
 	{
-		String clueItems = configManager.getConfiguration(CLUE_ITEMS_CONFIG, String.valueOf(clueID));
+		return clueDetailsStore.getCluesForItem(itemID).contains(clueID);
+	}
 
-		return clueDetailsPlugin.gson.fromJson(clueItems, new TypeToken<List<Integer>>(){}.getType());
+	/**
+	 * @return a modifiable copy of the clue's items, or null if it has none
+	 */
+	public List<Integer> getItemsPreference(int clueID)
+	{
+		int[] clueItemIds = clueDetailsStore.getItems(clueID);
+		return clueItemIds == null ? null : new ArrayList<>(Ints.asList(clueItemIds));
 	}
 
 	public void saveItemsPreference(int clueID, List<Integer> newItems)
 	{
-		if (newItems.isEmpty())
-		{
-			configManager.unsetConfiguration(CLUE_ITEMS_CONFIG, String.valueOf(clueID));
-		}
-		else
-		{
-			String clueItemIdsJson = clueDetailsPlugin.gson.toJson(newItems);
-			configManager.setConfiguration(CLUE_ITEMS_CONFIG, String.valueOf(clueID), clueItemIdsJson);
-		}
+		clueDetailsStore.setItems(clueID, newItems);
 	}
 }
@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2024, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.awt.Color;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compact share strings for exported clue details: a prefix naming the format, then base64 of DEFLATE
+ * compressed data. The data starts with its version, then a table of every distinct text, then each clue as
+ * the change in ID from the last one, which details it has, a text index, an RGB color and its item IDs.
+ * Numbers are written as varints, so most take one or two bytes.
+ * Counts read back are only trusted as far as the data holds, so nothing is sized from them up front.
+ */
+final class ClueShareCodec
+{
+	static final String PREFIX = "clue-details:";
+
+	private static final int VERSION = 1;
+
+	private static final int HAS_TEXT = 1;
+	private static final int HAS_COLOR = 2;
+	private static final int HAS_ITEMS = 4;
+
+	// Shared details are small, so anything which expands beyond this is not a real export
+	private static final int MAX_DECODED_BYTES = 4 * 1024 * 1024;
+
+	private ClueShareCodec()
+	{
+	}
+
+	static boolean isShareString(String text)
+	{
+		return text.trim().startsWith(PREFIX);
+	}
+
+	static String encode(List<ClueIdToDetails> details)
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (OutputStream out = new DeflaterOutputStream(bytes))
+		{
+			writeVarInt(out, VERSION);
+
+			Map<String, Integer> textIndexes = new HashMap<>();
+			List<String> texts = new ArrayList<>();
+			for (ClueIdToDetails detail : details)
+			{
+				if (detail.text != null && textIndexes.putIfAbsent(detail.text, texts.size()) == null)
+				{
+					texts.add(detail.text);
+				}
+			}
+			writeVarInt(out, texts.size());
+			for (String text : texts)
+			{
+				byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+				writeVarInt(out, utf8.length);
+				out.write(utf8);
+			}
+
+			writeVarInt(out, details.size());
+			int previousId = 0;
+			for (ClueIdToDetails detail : details)
+			{
+				writeVarInt(out, zigZag(detail.id - previousId));
+				previousId = detail.id;
+
+				int flags = (detail.text != null ? HAS_TEXT : 0)
+					| (detail.color != null ? HAS_COLOR : 0)
+					| (detail.itemIds != null ? HAS_ITEMS : 0);
+				out.write(flags);
+
+				if (detail.text != null)
+				{
+					writeVarInt(out, textIndexes.get(detail.text));
+				}
+				if (detail.color != null)
+				{
+					writeVarInt(out, detail.color.getRGB() & 0xFFFFFF);
+				}
+				if (detail.itemIds != null)
+				{
+					writeVarInt(out, detail.itemIds.length);
+					for (int itemId : detail.itemIds)
+					{
+						writeVarInt(out, itemId);
+					}
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			// Writing to memory does not fail
+			throw new IllegalStateException(e);
+		}
+		return PREFIX + Base64.getEncoder().encodeToString(bytes.toByteArray());
+	}
+
+	/**
+	 * @throws IllegalArgumentException if the text is not a readable share string
+	 */
+	static List<ClueIdToDetails> decode(String text)
+	{
+		String encoded = text.trim();
+		if (!encoded.startsWith(PREFIX))
+		{
+			throw new IllegalArgumentException("Not a clue details share string");
+		}
+
+		// Chat and pastebins often wrap long strings, which the MIME decoder skips over
+		byte[] compressed = Base64.getMimeDecoder().decode(encoded.substring(PREFIX.length()));
+		try (InputStream in = new LimitedInputStream(new InflaterInputStream(new ByteArrayInputStream(compressed))))
+		{
+			int version = readVarInt(in);
+			if (version != VERSION)
+			{
+				throw new IllegalArgumentException("Unsupported share string version " + version);
+			}
+
+			int textCount = readCount(in);
+			List<String> texts = new ArrayList<>();
+			for (int i = 0; i < textCount; i++)
+			{
+				texts.add(new String(readBytes(in, readCount(in)), StandardCharsets.UTF_8));
+			}
+
+			int count = readCount(in);
+			List<ClueIdToDetails> details = new ArrayList<>();
+			int id = 0;
+			for (int i = 0; i < count; i++)
+			{
+				id += unZigZag(readVarInt(in));
+				int flags = readByte(in);
+
+				String clueText = null;
+				Color color = null;
+				int[] itemIds = null;
+				if ((flags & HAS_TEXT) != 0)
+				{
+					int index = readVarInt(in);
+					if (index < 0 || index >= texts.size())
+					{
+						throw new IllegalArgumentException("Text index out of range");
+					}
+					clueText = texts.get(index);
+				}
+				if ((flags & HAS_COLOR) != 0)
+				{
+					color = new Color(readVarInt(in));
+				}
+				if ((flags & HAS_ITEMS) != 0)
+				{
+					itemIds = readItemIds(in);
+				}
+				details.add(new ClueIdToDetails(id, clueText, color, itemIds));
+			}
+			return details;
+		}
+		catch (IOException e)
+		{
+			throw new IllegalArgumentException("Unreadable clue details share string", e);
+		}
+	}
+
+	private static int[] readItemIds(InputStream in) throws IOException
+	{
+		int count = readCount(in);
+		int[] itemIds = new int[Math.min(count, 16)];
+		for (int i = 0; i < count; i++)
+		{
+			if (i == itemIds.length)
+			{
+				itemIds = Arrays.copyOf(itemIds, i * 2);
+			}
+			itemIds[i] = readVarInt(in);
+		}
+		return itemIds;
+	}
+
+	private static int zigZag(int value)
+	{
+		return (value << 1) ^ (value >> 31);
+	}
+
+	private static int unZigZag(int value)
+	{
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static void writeVarInt(OutputStream out, int value) throws IOException
+	{
+		while ((value & ~0x7F) != 0)
+		{
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	private static int readVarInt(InputStream in) throws IOException
+	{
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7)
+		{
+			int b = readByte(in);
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+			{
+				return value;
+			}
+		}
+		throw new IOException("Malformed varint");
+	}
+
+	/**
+	 * Reads a count, which can't be more than the bytes the data could still hold
+	 */
+	private static int readCount(InputStream in) throws IOException
+	{
+		int count = readVarInt(in);
+		if (count < 0 || count > MAX_DECODED_BYTES)
+		{
+			throw new IOException("Malformed count " + count);
+		}
+		return count;
+	}
+
+	private static int readByte(InputStream in) throws IOException
+	{
+		int b = in.read();
+		if (b < 0)
+		{
+			throw new IOException("Share string ended early");
+		}
+		return b;
+	}
+
+	private static byte[] readBytes(InputStream in, int length) throws IOException
+	{
+		byte[] bytes = in.readNBytes(length);
+		if (bytes.length != length)
+		{
+			throw new IOException("Share string ended early");
+		}
+		return bytes;
+	}
+
+	/**
+	 * Stops decompression of data far larger than any real export
+	 */
+	private static class LimitedInputStream extends InputStream
+	{
+		private final InputStream in;
+		private int remaining = MAX_DECODED_BYTES;
+
+		LimitedInputStream(InputStream in)
+		{
+			this.in = in;
+		}
+
+		@Override
+		public int read() throws IOException
+		{
+			if (remaining <= 0)
+			{
+				throw new IOException("Share string is too large");
+			}
+			int b = in.read();
+			if (b >= 0)
+			{
+				remaining--;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException
+		{
+			if (remaining <= 0)
+			{
+				throw new IOException("Share string is too large");
+			}
+			int read = in.read(b, off, Math.min(len, remaining));
+			if (read > 0)
+			{
+				remaining -= read;
+			}
+			return read;
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			in.close();
+		}
+	}
+}
@@ -127,6 +127,11 @@ public class ClueThreeStepSaver {
         String threeStepMasterJson = configManager.getConfiguration(CONFIG_GROUP,THREE_STEP_MASTER_KEY);
         if (threeStepMasterJson == null) return;
         savedThreeStepper = gson.fromJson(threeStepMasterJson,ClueInstance.class);
+        if (savedThreeStepper != null)
+        {
+            // Gson doesn't go through the setter, so share the loaded IDs with equal lists here
+            savedThreeStepper.setClueIds(savedThreeStepper.getClueIds());
+        }
     }
 
     public void startUp(ClueInventoryManager clueInventoryManager)
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2024, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Works out which derived views a config change affects, and rebuilds each affected view once
+ * a burst of changes has settled. Keys not listed only affect settings which are read as they are drawn.
+ */
+public class ClueViewInvalidator
+{
+	public enum View
+	{
+		// The sidebar's filtered and ordered clue list
+		PANEL_LIST,
+		// Ground tiles holding marked clues
+		HIGHLIGHT_INDEX,
+		// Formatted clue labels
+		LABEL_CACHE,
+		// Overlay state worked out from settings, such as the inventory slots to highlight
+		OVERLAY_SETTINGS
+	}
+
+	private static final long DEBOUNCE_MS = 100;
+
+	private static final Map<String, Set<View>> KEY_VIEWS = new HashMap<>();
+
+	static
+	{
+		for (String key : new String[]{ "filterListByTier", "filterListByRegion", "orderListBy", "onlyShowMarkedClues" })
+		{
+			KEY_VIEWS.put(key, EnumSet.of(View.PANEL_LIST));
+		}
+		KEY_VIEWS.put("highlightMarkedClues", EnumSet.of(View.HIGHLIGHT_INDEX));
+		for (String key : new String[]{ "highlightInventoryClueItems", "itemHighlightColor", "colorInventoryClueItems" })
+		{
+			KEY_VIEWS.put(key, EnumSet.of(View.OVERLAY_SETTINGS));
+		}
+		// Disabled tiers drop out of the clues whose items are highlighted
+		for (String key : EnabledClueCatalog.TIER_TOGGLE_KEYS)
+		{
+			KEY_VIEWS.put(key, EnumSet.of(View.OVERLAY_SETTINGS));
+		}
+	}
+
+	private final ScheduledExecutorService executor;
+	private final Map<View, Runnable> rebuilds;
+
+	private final Set<View> pending = EnumSet.noneOf(View.class);
+	private ScheduledFuture<?> scheduledFlush;
+
+	public ClueViewInvalidator(ScheduledExecutorService executor, Map<View, Runnable> rebuilds)
+	{
+		this.executor = executor;
+		this.rebuilds = rebuilds;
+	}
+
+	/**
+	 * @return the views affected by a key in the plugin's config group
+	 */
+	public static Set<View> forConfigKey(String key)
+	{
+		return KEY_VIEWS.getOrDefault(key, Collections.emptySet());
+	}
+
+	public synchronized void invalidate(Set<View> views)
+	{
+		if (views.isEmpty()) return;
+
+		pending.addAll(views);
+		if (scheduledFlush == null)
+		{
+			scheduledFlush = executor.schedule(this::flush, DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	public void invalidateAll()
+	{
+		invalidate(EnumSet.allOf(View.class));
+	}
+
+	/**
+	 * Drops any rebuild still waiting, so none runs after the views have been torn down
+	 */
+	public synchronized void cancel()
+	{
+		if (scheduledFlush != null)
+		{
+			scheduledFlush.cancel(false);
+			scheduledFlush = null;
+		}
+		pending.clear();
+	}
+
+	private void flush()
+	{
+		Set<View> views = EnumSet.noneOf(View.class);
+		synchronized (this)
+		{
+			views.addAll(pending);
+			pending.clear();
+			scheduledFlush = null;
+		}
+
+		for (View view : views)
+		{
+			Runnable rebuild = rebuilds.get(view);
+			if (rebuild != null)
+			{
+				rebuild.run();
+			}
+		}
+	}
+}
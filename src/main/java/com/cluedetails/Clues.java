@@ -24,26 +24,21 @@
  */
 package com.cluedetails;
 
-import static com.cluedetails.ClueDetailsConfig.CLUE_ITEMS_CONFIG;
+import com.cluedetails.filters.ClueRegion;
 import com.cluedetails.filters.ClueTier;
-import com.cluedetails.filters.OrRequirement;
+import com.cluedetails.filters.RegionLookup;
 import com.google.common.collect.ImmutableList;
-import com.google.gson.reflect.TypeToken;
 import java.awt.Color;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.Getter;
-import lombok.Setter;
 import net.runelite.api.ItemID;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.widgets.InterfaceID;
-import net.runelite.client.config.ConfigManager;
 import net.runelite.client.plugins.cluescrolls.clues.MapClue;
-import net.runelite.client.util.Text;
 
-@Getter
 public class Clues
 {
 	public static final List<Clues> CLUES = ImmutableList.of(
@@ -1014,51 +1009,89 @@ public class Clues
 		new Clues(644, "tree: Sherlock", ItemID.CLUE_SCROLL_MASTER, ClueTier.MASTER, BeginnerMasterClueText.MASTER_SHERLOCK_25, List.of(new WorldPoint(2733, 3413, 0)))
 	);
 
-	final String clueText;
-	final String clueDetail;
-	final Color clueDetailColor;
-	final int itemID;
-	final int clueID;
-	final ClueTier clueTier;
+	static
+	{
+		ClueCatalogStore.seal();
+	}
 
+	// Row of this clue in ClueCatalogStore, which is also its index in CLUES
 	@Getter
-	final OrRequirement regions;
+	private final int ordinal;
 
 	// To be initialized to avoid passing around
-	@Setter
 	public static ClueDetailsConfig config;
 
+	private static volatile EnabledClueCatalog enabledCatalog = EnabledClueCatalog.allTiers(CLUES);
+
 	Clues(String clueDetail, int itemID, ClueTier clueTier, String clueText, List<WorldPoint> wps)
 	{
-		this.clueID = -1;
-		this.clueDetail = clueDetail;
-		this.clueDetailColor = Color.WHITE;
-		this.itemID = itemID;
-		this.clueTier = clueTier;
-		this.clueText = clueText;
-		this.regions = new OrRequirement(wps);
+		this(-1, clueDetail, Color.WHITE, itemID, clueTier, clueText, wps);
 	}
 
 	Clues(int clueID, String clueDetail, int itemID, ClueTier clueTier, String clueText, List<WorldPoint> wps)
 	{
-		this.clueID = clueID;
-		this.clueDetail = clueDetail;
-		this.clueDetailColor = Color.WHITE;
-		this.itemID = itemID;
-		this.clueTier = clueTier;
-		this.clueText = clueText;
-		this.regions = new OrRequirement(wps);
+		this(clueID, clueDetail, Color.WHITE, itemID, clueTier, clueText, wps);
 	}
 
 	Clues(String clueDetail, Color clueDetailColor, int itemID, ClueTier clueTier, String clueText, List<WorldPoint> wps)
 	{
-		this.clueID = -1;
-		this.clueDetail = clueDetail;
-		this.clueDetailColor = clueDetailColor;
-		this.itemID = itemID;
-		this.clueTier = clueTier;
-		this.clueText = clueText;
-		this.regions = new OrRequirement(wps);
+		this(-1, clueDetail, clueDetailColor, itemID, clueTier, clueText, wps);
+	}
+
+	private Clues(int clueID, String clueDetail, Color clueDetailColor, int itemID, ClueTier clueTier, String clueText, List<WorldPoint> wps)
+	{
+		this.ordinal = ClueCatalogStore.add(clueID, clueDetail, clueDetailColor, itemID, clueTier, clueText, wps);
+	}
+
+	public String getClueText()
+	{
+		return ClueCatalogStore.getText(ordinal);
+	}
+
+	public String getClueDetail()
+	{
+		return ClueCatalogStore.getDetail(ordinal);
+	}
+
+	public Color getClueDetailColor()
+	{
+		return ClueCatalogStore.getColor(ordinal);
+	}
+
+	public int getItemID()
+	{
+		return ClueCatalogStore.getItemId(ordinal);
+	}
+
+	public ClueTier getClueTier()
+	{
+		return ClueCatalogStore.getTier(ordinal);
+	}
+
+	/**
+	 * @return whether the clue has its own ID, rather than being identified by its item ID
+	 */
+	boolean hasOwnClueId()
+	{
+		return ClueCatalogStore.getClueId(ordinal) != -1;
+	}
+
+	public List<WorldPoint> getWorldPoints()
+	{
+		return ClueCatalogStore.getWorldPoints(ordinal);
+	}
+
+	/**
+	 * @return bitmask of the ordinals of every {@link ClueRegion} one of the clue's steps is in
+	 */
+	public int getRegionMask()
+	{
+		return ClueCatalogStore.getRegionMask(ordinal);
+	}
+
+	public boolean isInRegion(ClueRegion region)
+	{
+		return (getRegionMask() & RegionLookup.bit(region)) != 0;
 	}
 
 	private static final Collection<Integer> TRACKED_CLUE_IDS = List.of(
@@ -1076,74 +1109,81 @@ public class Clues
 		ItemID.DAEYALT_ESSENCE
 	);
 
-	public static List<Clues> filteredClues()
-	{
-		if (config == null) return Clues.CLUES;
+	private static final BitSet DEV_MODE_ITEMS = toBitSet(DEV_MODE_IDS);
+	private static final BitSet TRACKED_CLUE_ITEMS = toBitSet(TRACKED_CLUE_IDS);
+	private static final BitSet TRACKED_CLUE_ITEMS_DEV = toBitSet(TRACKED_CLUE_IDS, DEV_MODE_IDS);
+	private static final BitSet TRACKED_CLUE_OR_TORN_ITEMS = toBitSet(TRACKED_CLUE_IDS, TRACKED_TORN_CLUE_IDS);
+	private static final BitSet TRACKED_CLUE_OR_TORN_ITEMS_DEV = toBitSet(TRACKED_CLUE_IDS, TRACKED_TORN_CLUE_IDS, DEV_MODE_IDS);
 
-		List<ClueTier> enabledClues = new ArrayList<>();
-		if (config.beginnerDetails()) enabledClues.add(ClueTier.BEGINNER);
-		if (config.easyDetails()) enabledClues.add(ClueTier.EASY);
-		if (config.mediumDetails())
-		{
-			enabledClues.add(ClueTier.MEDIUM);
-			enabledClues.add(ClueTier.MEDIUM_CHALLENGE);
-			enabledClues.add(ClueTier.MEDIUM_KEY);
-		}
-		if (config.hardDetails())
-		{
-			enabledClues.add(ClueTier.HARD);
-			enabledClues.add(ClueTier.HARD_CHALLENGE);
-		}
-		if (config.eliteDetails())
+	@SafeVarargs
+	private static BitSet toBitSet(Collection<Integer>... itemIdCollections)
+	{
+		BitSet bits = new BitSet();
+		for (Collection<Integer> itemIds : itemIdCollections)
 		{
-			enabledClues.add(ClueTier.ELITE);
-			enabledClues.add(ClueTier.ELITE_CHALLENGE);
+			itemIds.forEach(bits::set);
 		}
-		if (config.masterDetails()) enabledClues.add(ClueTier.MASTER);
+		return bits;
+	}
+
+	private static boolean containsItem(BitSet bits, int itemId)
+	{
+		return itemId >= 0 && bits.get(itemId);
+	}
 
-		return Clues.CLUES.stream()
-			.filter(c -> enabledClues.contains(c.getClueTier()))
-			.collect(Collectors.toList());
+	public static void setConfig(ClueDetailsConfig config)
+	{
+		Clues.config = config;
+		updateEnabledCatalog();
+	}
+
+	/**
+	 * Rebuilds the enabled clue snapshot. Should be called whenever a tier toggle changes.
+	 */
+	public static void updateEnabledCatalog()
+	{
+		if (config == null) return;
+
+		enabledCatalog = EnabledClueCatalog.build(config, CLUES, enabledCatalog.getVersion() + 1);
+	}
+
+	public static EnabledClueCatalog getEnabledCatalog()
+	{
+		return enabledCatalog;
+	}
+
+	public static List<Clues> filteredClues()
+	{
+		return enabledCatalog.getClues();
 	}
 
 	public static Clues forItemId(int itemId)
 	{
-		for (Clues clue : filteredClues())
-		{
-			if (clue.clueID == -1 && clue.getItemID() == itemId)
-			{
-				return clue;
-			}
-		}
-		return null;
+		Clues clue = ClueIndex.BY_ITEM_ID.get(itemId);
+		if (clue == null || !clue.isEnabled()) return null;
+		return clue;
 	}
 
 	public static Clues forClueId(int clueId)
 	{
-		for (Clues clue : CLUES)
-		{
-			if (clue.getClueID() == clueId)
-			{
-				return clue;
-			}
-		}
-		return null;
+		return ClueIndex.BY_CLUE_ID.get(clueId);
 	}
 
 	public static Clues forClueIdFiltered(int clueId)
 	{
-		for (Clues clue : filteredClues())
-		{
-			if (clue.getClueID() == clueId)
-			{
-				return clue;
-			}
-		}
-		return null;
+		Clues clue = ClueIndex.BY_CLUE_ID.get(clueId);
+		if (clue == null || !clue.isEnabled()) return null;
+		return clue;
 	}
 
-	public Integer getClueID()
+	public boolean isEnabled()
 	{
+		return enabledCatalog.isEnabled(this);
+	}
+
+	public int getClueID()
+	{
+		int clueID = ClueCatalogStore.getClueId(ordinal);
 		if (clueID != -1)
 		{
 			return clueID;
@@ -1153,72 +1193,59 @@ public class Clues
 
 	public static Integer forTextGetId(String rawText)
 	{
-		final String text = Text.sanitizeMultilineText(rawText).toLowerCase();
-
-		for (Clues clue : filteredClues())
-		{
-			if (text.equalsIgnoreCase(clue.getClueText()))
-			{
-				return clue.getClueID();
-			}
-		}
-
-		return null;
+		Clues clue = ClueIndex.BY_TEXT.get(ClueIndex.normalizeText(rawText));
+		if (clue == null || !clue.isEnabled()) return null;
+		return clue.getClueID();
 	}
 
+	// Map clues are recognised regardless of which tiers are enabled, so the clue is known if the tier is turned on later
 	public static Integer forInterfaceIdGetId(int interfaceId)
 	{
-		// Only check beginner map clues
-		for (int i = 21; i < 26; i++)
-		{
-			List<Clues> filteredClues = filteredClues();
-			if (filteredClues.get(i).getItemID() == interfaceId)
-			{
-				return filteredClues.get(i).getClueID();
-			}
-		}
-		return null;
+		Clues clue = ClueIndex.BY_INTERFACE_ID.get(interfaceId);
+		if (clue == null) return null;
+		return clue.getClueID();
 	}
 
-	public String getDetail(ConfigManager configManager)
+	public static boolean isMapClueInterface(int interfaceId)
 	{
-		String text = configManager.getConfiguration("clue-details-text", String.valueOf(getClueID()));
+		return ClueIndex.BY_INTERFACE_ID.get(interfaceId) != null;
+	}
+
+	public String getDetail(ClueDetailsStore clueDetailsStore)
+	{
+		String text = clueDetailsStore.getText(getClueID());
 		if (text != null) return text;
 		return getClueDetail();
 	}
 
-	public Color getDetailColor(ConfigManager configManager)
+	public Color getDetailColor(ClueDetailsStore clueDetailsStore)
 	{
-		String colorCode = configManager.getConfiguration("clue-details-color", String.valueOf(getClueID()));
-		if (colorCode != null) return Color.decode(colorCode);
+		Color color = clueDetailsStore.getColor(getClueID());
+		if (color != null) return color;
 		return getClueDetailColor();
 	}
 
-	public List<Integer> getItems(ClueDetailsPlugin plugin, ConfigManager configManager)
+	/**
+	 * @return the items highlighted for this clue, or null if there are none. Must not be modified.
+	 */
+	public int[] getItems(ClueDetailsStore clueDetailsStore)
 	{
-		String items = configManager.getConfiguration(CLUE_ITEMS_CONFIG, String.valueOf(getClueID()));
-		if (items != null)
-		{
-			return plugin.gson.fromJson(items, new TypeToken<List<Integer>>()
-			{
-			}.getType());
-		}
-		return null;
+		return clueDetailsStore.getItems(getClueID());
 	}
 
 	public static boolean isClue(int itemId, boolean isDeveloperMode)
 	{
-		return filteredClues().stream().anyMatch((clue) -> clue.getItemID() == itemId) || (isDeveloperMode && DEV_MODE_IDS.contains(itemId));
+		return enabledCatalog.isClueItem(itemId) || (isDeveloperMode && containsItem(DEV_MODE_ITEMS, itemId));
 	}
 
 	public static boolean isTrackedClue(int itemId, boolean isDeveloperMode)
 	{
-		return TRACKED_CLUE_IDS.contains(itemId) || (isDeveloperMode && DEV_MODE_IDS.contains(itemId));
+		return containsItem(isDeveloperMode ? TRACKED_CLUE_ITEMS_DEV : TRACKED_CLUE_ITEMS, itemId);
 	}
 
 	public static boolean isTrackedClueOrTornClue(int itemId, boolean isDeveloperMode)
 	{
-		return TRACKED_CLUE_IDS.contains(itemId) || TRACKED_TORN_CLUE_IDS.contains(itemId) || (isDeveloperMode && DEV_MODE_IDS.contains(itemId));
+		return containsItem(isDeveloperMode ? TRACKED_CLUE_OR_TORN_ITEMS_DEV : TRACKED_CLUE_OR_TORN_ITEMS, itemId);
 	}
 
 	public static Collection<Integer> getTrackedClueAndTornClueIds(boolean isDevMode)
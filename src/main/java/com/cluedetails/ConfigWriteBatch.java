@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2024, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import net.runelite.client.config.ConfigManager;
+
+/**
+ * Config writes collected so that a large change, such as an import, is written in one go.
+ * Only the last write to each key is kept, and writes matching what is already stored are skipped when applied.
+ */
+public final class ConfigWriteBatch
+{
+	private final ConfigManager configManager;
+	// Group and key to the new value, or null to unset it
+	private final Map<String, Map<String, Object>> writes = new LinkedHashMap<>();
+
+	ConfigWriteBatch(ConfigManager configManager)
+	{
+		this.configManager = configManager;
+	}
+
+	public synchronized void set(String group, String key, Object value)
+	{
+		writes.computeIfAbsent(group, g -> new LinkedHashMap<>()).put(key, value);
+	}
+
+	public synchronized void unset(String group, String key)
+	{
+		set(group, key, null);
+	}
+
+	synchronized boolean isEmpty()
+	{
+		return writes.isEmpty();
+	}
+
+	/**
+	 * Writes every collected change which differs from what is stored.
+	 *
+	 * @return the number of keys written
+	 */
+	public synchronized int apply()
+	{
+		int written = 0;
+		for (Map.Entry<String, Map<String, Object>> groupWrites : writes.entrySet())
+		{
+			String group = groupWrites.getKey();
+			for (Map.Entry<String, Object> write : groupWrites.getValue().entrySet())
+			{
+				String key = write.getKey();
+				Object value = write.getValue();
+				if (value == null)
+				{
+					if (configManager.getConfiguration(group, key) == null) continue;
+					configManager.unsetConfiguration(group, key);
+				}
+				else
+				{
+					if (Objects.equals(configManager.getConfiguration(group, key, value.getClass()), value)) continue;
+					configManager.setConfiguration(group, key, value);
+				}
+				written++;
+			}
+		}
+		writes.clear();
+		return written;
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2024, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import com.cluedetails.filters.ClueTier;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Immutable snapshot of the clues belonging to the currently enabled tiers.
+ * A new snapshot is only built when one of the tier toggles changes, so lookups can share it freely.
+ */
+@Getter
+public class EnabledClueCatalog
+{
+	public static final Set<String> TIER_TOGGLE_KEYS = Set.of(
+		"beginnerDetails",
+		"easyDetails",
+		"mediumDetails",
+		"hardDetails",
+		"eliteDetails",
+		"masterDetails"
+	);
+
+	private final int version;
+	// Bit per ClueTier ordinal
+	private final int tierMask;
+	private final List<Clues> clues;
+	@Getter(AccessLevel.NONE)
+	private final BitSet clueItemIds;
+
+	private EnabledClueCatalog(int version, int tierMask, List<Clues> clues)
+	{
+		this.version = version;
+		this.tierMask = tierMask;
+		this.clues = clues;
+		this.clueItemIds = new BitSet();
+		for (Clues clue : clues)
+		{
+			clueItemIds.set(clue.getItemID());
+		}
+	}
+
+	static EnabledClueCatalog allTiers(List<Clues> catalog)
+	{
+		return new EnabledClueCatalog(0, (1 << ClueTier.values().length) - 1, catalog);
+	}
+
+	static EnabledClueCatalog build(ClueDetailsConfig config, List<Clues> catalog, int version)
+	{
+		int tierMask = 0;
+		for (ClueTier tier : ClueTier.values())
+		{
+			if (isTierEnabled(config, tier))
+			{
+				tierMask |= 1 << tier.ordinal();
+			}
+		}
+
+		final int enabledTiers = tierMask;
+		List<Clues> enabledClues = catalog.stream()
+			.filter(c -> (enabledTiers & (1 << c.getClueTier().ordinal())) != 0)
+			.collect(Collectors.toUnmodifiableList());
+		return new EnabledClueCatalog(version, tierMask, enabledClues);
+	}
+
+	public boolean isClueItem(int itemId)
+	{
+		return itemId >= 0 && clueItemIds.get(itemId);
+	}
+
+	public boolean isEnabled(Clues clue)
+	{
+		return (tierMask & (1 << clue.getClueTier().ordinal())) != 0;
+	}
+
+	public static boolean isTierEnabled(ClueDetailsConfig config, ClueTier tier)
+	{
+		switch (tier)
+		{
+			case BEGINNER:
+				return config.beginnerDetails();
+			case EASY:
+				return config.easyDetails();
+			case MEDIUM:
+			case MEDIUM_CHALLENGE:
+			case MEDIUM_KEY:
+				return config.mediumDetails();
+			case HARD:
+			case HARD_CHALLENGE:
+				return config.hardDetails();
+			case ELITE:
+			case ELITE_CHALLENGE:
+				return config.eliteDetails();
+			case MASTER:
+				return config.masterDetails();
+			default:
+				return true;
+		}
+	}
+}
@@ -26,25 +26,100 @@ package com.cluedetails;
 
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import static net.runelite.api.ItemID.TORN_CLUE_SCROLL_PART_1;
 import static net.runelite.api.ItemID.TORN_CLUE_SCROLL_PART_2;
 import static net.runelite.api.ItemID.TORN_CLUE_SCROLL_PART_3;
-import net.runelite.client.config.ConfigManager;
-import net.runelite.client.util.Text;
 
 @Getter
-@RequiredArgsConstructor
 public class ThreeStepCrypticClue
 {
+	private static final int MAX_CACHED_TEXTS = 32;
+
+	// Parsed steps keyed by the raw clue text, so re-reading the same clue doesn't re-parse it.
+	// Clues are also built while saved ground and bank clues load, off the client thread, and reads reorder the map.
+	private static final Map<String, ThreeStepCrypticClue> PARSED_TEXTS = Collections.synchronizedMap(
+		new LinkedHashMap<>(16, 0.75f, true)
+		{
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, ThreeStepCrypticClue> eldest)
+			{
+				return size() > MAX_CACHED_TEXTS;
+			}
+		});
+
 	private final List<Map.Entry<Clues, Boolean>> clueSteps;
+	private final List<Integer> clueIds;
 	private final String text;
+	// Steps which were already struck through in the clue text
+	private final boolean[] completedInText;
+
+	private ThreeStepCrypticClue(List<Map.Entry<Clues, Boolean>> clueSteps, String text)
+	{
+		this.clueSteps = clueSteps;
+		this.text = text;
+		this.completedInText = new boolean[clueSteps.size()];
+		List<Integer> ids = new ArrayList<>(clueSteps.size());
+		for (int i = 0; i < clueSteps.size(); i++)
+		{
+			completedInText[i] = clueSteps.get(i).getValue();
+			ids.add(clueSteps.get(i).getKey().getClueID());
+		}
+		this.clueIds = ClueInterner.clueIds(ids);
+	}
 
 	public static ThreeStepCrypticClue forText(String text)
+	{
+		ThreeStepCrypticClue parsed = PARSED_TEXTS.get(text);
+		if (parsed == null)
+		{
+			parsed = parse(text);
+			if (parsed == null)
+			{
+				return null;
+			}
+			PARSED_TEXTS.put(text, parsed);
+		}
+
+		// Steps are updated as torn parts are found, so each caller gets its own copy
+		return parsed.copy();
+	}
+
+	public static ThreeStepCrypticClue forClueIds(List<Integer> clueIds)
+	{
+		final List<Map.Entry<Clues, Boolean>> steps = new ArrayList<>(clueIds.size());
+		final StringBuilder text = new StringBuilder();
+
+		for (Integer clueId : clueIds)
+		{
+			Clues clue = Clues.forClueId(clueId);
+			if (clue == null || clue.getClueText() == null)
+			{
+				return null;
+			}
+
+			if (text.length() > 0)
+			{
+				text.append("<br>");
+			}
+			text.append(clue.getClueText());
+			steps.add(new AbstractMap.SimpleEntry<>(clue, false));
+		}
+
+		if (steps.size() < 3)
+		{
+			return null;
+		}
+
+		return new ThreeStepCrypticClue(steps, text.toString());
+	}
+
+	private static ThreeStepCrypticClue parse(String text)
 	{
 		final String[] split = text.split("<br>");
 		final List<Map.Entry<Clues, Boolean>> steps = new ArrayList<>(split.length);
@@ -52,17 +127,10 @@ public class ThreeStepCrypticClue
 		for (String part : split)
 		{
 			boolean isDone = part.contains("<str>");
-			final String rawText = Text.sanitizeMultilineText(part);
-
-			for (Clues clue : Clues.CLUES)
+			Clues clue = ClueIndex.BY_TEXT.get(ClueIndex.normalizeText(part));
+			if (clue != null)
 			{
-				if (!rawText.equalsIgnoreCase(clue.getClueText()))
-				{
-					continue;
-				}
-
 				steps.add(new AbstractMap.SimpleEntry<>(clue, isDone));
-				break;
 			}
 		}
 
@@ -74,6 +142,16 @@ public class ThreeStepCrypticClue
 		return new ThreeStepCrypticClue(steps, text);
 	}
 
+	private ThreeStepCrypticClue copy()
+	{
+		final List<Map.Entry<Clues, Boolean>> steps = new ArrayList<>(clueSteps.size());
+		for (int i = 0; i < clueSteps.size(); i++)
+		{
+			steps.add(new AbstractMap.SimpleEntry<>(clueSteps.get(i).getKey(), completedInText[i]));
+		}
+		return new ThreeStepCrypticClue(steps, text);
+	}
+
 	public void update(Set<Integer> trackedClues)
 	{
 		checkForPart(trackedClues, TORN_CLUE_SCROLL_PART_1, 0);
@@ -83,36 +161,8 @@ public class ThreeStepCrypticClue
 
 	private void checkForPart(final Set<Integer> trackedClues, int clueScrollPart, int index)
 	{
-		// If we have the part then that step is done
-		if (trackedClues.contains(clueScrollPart))
-		{
-			final Map.Entry<Clues, Boolean> entry = clueSteps.get(index);
-
-			if (!entry.getValue())
-			{
-				entry.setValue(true);
-			}
-		}
-	}
-
-	public String getDetail(ConfigManager configManager, ClueDetailsConfig config)
-	{
-		StringBuilder text = new StringBuilder();
-
-		for (final Map.Entry<Clues, Boolean> e : clueSteps)
-		{
-			if (!e.getValue())
-			{
-				Clues clue = e.getKey();
-				String detail = clue.getDetail(configManager);
-				if (config.colorInventoryClueTags())
-				{
-					String color = Integer.toHexString(clue.getDetailColor(configManager).getRGB()).substring(2);
-					text.append("<col=").append(color).append(">");
-				}
-				text.append(detail).append("<br>");
-			}
-		}
-		return text.toString();
+		// If we have the part then that step is done. Steps only done by having the part are undone if it is lost.
+		final Map.Entry<Clues, Boolean> entry = clueSteps.get(index);
+		entry.setValue(completedInText[index] || trackedClues.contains(clueScrollPart));
 	}
 }
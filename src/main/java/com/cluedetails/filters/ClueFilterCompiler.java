@@ -24,14 +24,52 @@
  */
 package com.cluedetails.filters;
 
-import java.util.List;
-import net.runelite.api.coords.WorldPoint;
+import com.cluedetails.ClueDetailsConfig.ClueFilter;
+import com.cluedetails.Clues;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-public abstract class AbstractRequirement
+/**
+ * Turns the sidebar filters into a set of catalog ordinals, so that filtering a clue is a single bit lookup.
+ * Each filter's clues are worked out once, as neither tiers nor regions of a clue change.
+ */
+public final class ClueFilterCompiler
 {
-	List<WorldPoint> wps;
+	private static final Map<ClueFilter, BitSet> FILTER_BITS = new ConcurrentHashMap<>();
+
+	private ClueFilterCompiler()
+	{
+	}
 
-	List<ClueRegion> regions;
+	/**
+	 * @param markedClues ordinals of marked clues, or null to not filter by marking
+	 * @return ordinals of the clues which pass every filter. The caller owns the returned set.
+	 */
+	public static BitSet compile(ClueFilter tierFilter, ClueFilter regionFilter, BitSet markedClues)
+	{
+		BitSet result = (BitSet) bitsFor(tierFilter).clone();
+		result.and(bitsFor(regionFilter));
+		if (markedClues != null)
+		{
+			result.and(markedClues);
+		}
+		return result;
+	}
 
-	abstract public boolean isRegionValid(ClueRegion clueRegionToCheck);
+	private static BitSet bitsFor(ClueFilter filter)
+	{
+		return FILTER_BITS.computeIfAbsent(filter, f ->
+		{
+			BitSet bits = new BitSet(Clues.CLUES.size());
+			for (Clues clue : Clues.CLUES)
+			{
+				if (f.test(clue))
+				{
+					bits.set(clue.getOrdinal());
+				}
+			}
+			return bits;
+		});
+	}
 }
@@ -25,8 +25,10 @@
 package com.cluedetails.filters;
 
 import com.cluedetails.Clues;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
 
 public class ClueOrders
 {
@@ -47,11 +49,68 @@ public class ClueOrders
 
 	public static Comparator<Clues> sortByTier()
 	{
-		return Comparator.comparing(q -> tierOrder.indexOf(q));
+		return Comparator.comparingInt(q -> tierRank(q.getClueTier()));
 	}
 
 	public static Comparator<Clues> sortByRegion()
 	{
-		return Comparator.comparing(q -> regionOrder.indexOf(q));
+		return Comparator.comparingInt(q -> regionRank(q.getRegionMask()));
+	}
+
+	public static int tierRank(ClueTier tier)
+	{
+		return orderOf(tierOrder.indexOf(tier));
+	}
+
+	/**
+	 * @return place of the first region in the mask, or last if it has none
+	 */
+	public static int regionRank(int regionMask)
+	{
+		for (int i = 0; i < regionOrder.size(); i++)
+		{
+			if ((regionMask & RegionLookup.bit(regionOrder.get(i))) != 0)
+			{
+				return i;
+			}
+		}
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Catalog ordinals of every clue in comparator order.
+	 * Sorting is stable, so clues which compare equal stay in catalog order.
+	 */
+	public static int[] order(List<Clues> catalog, Comparator<Clues> comparator)
+	{
+		Integer[] order = new Integer[catalog.size()];
+		for (int i = 0; i < order.length; i++)
+		{
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> comparator.compare(catalog.get(a), catalog.get(b)));
+		return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Catalog ordinals of the clues in each section, each in the given order of the whole catalog.
+	 */
+	public static int[][] sectionOrders(List<Clues> catalog, int[] order, Predicate<Clues>[] sections)
+	{
+		int[][] sectionOrders = new int[sections.length][];
+		for (int section = 0; section < sections.length; section++)
+		{
+			Predicate<Clues> inSection = sections[section];
+			sectionOrders[section] = Arrays.stream(order)
+				.filter(ordinal -> inSection.test(catalog.get(ordinal)))
+				.toArray();
+		}
+		return sectionOrders;
+	}
+
+	// Tiers without a place in the order, such as challenge scrolls, go last
+	private static int orderOf(int index)
+	{
+		return index == -1 ? Integer.MAX_VALUE : index;
 	}
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2024, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails.filters;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Map square lookup table for which {@link ClueRegion}s contain a point.
+ * Each square stores the regions covering all of it, plus the zones only covering part of it
+ * (such as those bounded by WorldPoints), which are checked tile by tile.
+ */
+public final class RegionLookup
+{
+	private static final int SQUARE_SHIFT = 6;
+	private static final int SQUARE_SIZE = 1 << SQUARE_SHIFT;
+	private static final int PLANES = 4;
+	private static final Zone[] NO_ZONES = new Zone[0];
+
+	private static final int minSquareX;
+	private static final int minSquareY;
+	private static final int squaresWide;
+	private static final int squaresHigh;
+
+	// Indexed by plane, then map square
+	private static final int[] fullMasks;
+	private static final Zone[][] partialZones;
+	private static final int[][] partialBits;
+
+	static
+	{
+		int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = 0, maxY = 0;
+		for (ClueRegion region : ClueRegion.values())
+		{
+			for (Zone zone : region.getZones())
+			{
+				minX = Math.min(minX, zone.getMinX() >> SQUARE_SHIFT);
+				minY = Math.min(minY, zone.getMinY() >> SQUARE_SHIFT);
+				maxX = Math.max(maxX, zone.getMaxX() >> SQUARE_SHIFT);
+				maxY = Math.max(maxY, zone.getMaxY() >> SQUARE_SHIFT);
+			}
+		}
+		minSquareX = minX;
+		minSquareY = minY;
+		squaresWide = maxX - minX + 1;
+		squaresHigh = maxY - minY + 1;
+
+		int size = PLANES * squaresWide * squaresHigh;
+		fullMasks = new int[size];
+		List<List<Zone>> zones = new ArrayList<>(size);
+		List<List<Integer>> bits = new ArrayList<>(size);
+		for (int i = 0; i < size; i++)
+		{
+			zones.add(null);
+			bits.add(null);
+		}
+
+		for (ClueRegion region : ClueRegion.values())
+		{
+			for (Zone zone : region.getZones())
+			{
+				addZone(zone, bit(region), zones, bits);
+			}
+		}
+
+		partialZones = new Zone[size][];
+		partialBits = new int[size][];
+		for (int i = 0; i < size; i++)
+		{
+			List<Zone> squareZones = zones.get(i);
+			if (squareZones == null)
+			{
+				partialZones[i] = NO_ZONES;
+				partialBits[i] = new int[0];
+				continue;
+			}
+			partialZones[i] = squareZones.toArray(NO_ZONES);
+			partialBits[i] = bits.get(i).stream().mapToInt(Integer::intValue).toArray();
+		}
+	}
+
+	private RegionLookup()
+	{
+	}
+
+	private static void addZone(Zone zone, int bit, List<List<Zone>> zones, List<List<Integer>> bits)
+	{
+		int minPlane = Math.max(zone.getMinPlane(), 0);
+		int maxPlane = Math.min(zone.getMaxPlane(), PLANES - 1);
+		for (int plane = minPlane; plane <= maxPlane; plane++)
+		{
+			for (int squareX = zone.getMinX() >> SQUARE_SHIFT; squareX <= zone.getMaxX() >> SQUARE_SHIFT; squareX++)
+			{
+				for (int squareY = zone.getMinY() >> SQUARE_SHIFT; squareY <= zone.getMaxY() >> SQUARE_SHIFT; squareY++)
+				{
+					int index = index(plane, squareX, squareY);
+					boolean coversSquare = zone.getMinX() <= squareX << SQUARE_SHIFT
+						&& ((squareX + 1) << SQUARE_SHIFT) - 1 <= zone.getMaxX()
+						&& zone.getMinY() <= squareY << SQUARE_SHIFT
+						&& ((squareY + 1) << SQUARE_SHIFT) - 1 <= zone.getMaxY();
+					if (coversSquare)
+					{
+						fullMasks[index] |= bit;
+					}
+					else if ((fullMasks[index] & bit) == 0)
+					{
+						if (zones.get(index) == null)
+						{
+							zones.set(index, new ArrayList<>());
+							bits.set(index, new ArrayList<>());
+						}
+						zones.get(index).add(zone);
+						bits.get(index).add(bit);
+					}
+				}
+			}
+		}
+	}
+
+	public static int bit(ClueRegion region)
+	{
+		return 1 << region.ordinal();
+	}
+
+	/**
+	 * @return bitmask of the ordinals of every {@link ClueRegion} containing the point
+	 */
+	public static int regionMask(WorldPoint wp)
+	{
+		return regionMask(wp.getX(), wp.getY(), wp.getPlane());
+	}
+
+	public static int regionMask(int x, int y, int plane)
+	{
+		int squareX = x >> SQUARE_SHIFT;
+		int squareY = y >> SQUARE_SHIFT;
+		if (plane < 0 || plane >= PLANES
+			|| squareX < minSquareX || squareX >= minSquareX + squaresWide
+			|| squareY < minSquareY || squareY >= minSquareY + squaresHigh)
+		{
+			return 0;
+		}
+
+		int index = index(plane, squareX, squareY);
+		int mask = fullMasks[index];
+		Zone[] zones = partialZones[index];
+		for (int i = 0; i < zones.length; i++)
+		{
+			if ((mask & partialBits[index][i]) == 0 && zones[i].contains(x, y, plane))
+			{
+				mask |= partialBits[index][i];
+			}
+		}
+		return mask;
+	}
+
+	private static int index(int plane, int squareX, int squareY)
+	{
+		return (plane * squaresWide + (squareX - minSquareX)) * squaresHigh + (squareY - minSquareY);
+	}
+}
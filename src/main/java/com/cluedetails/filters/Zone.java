@@ -39,7 +39,9 @@ public class Zone
 	private final int minY;
 	@Getter
 	private final int maxY;
+	@Getter
 	private int minPlane = 0;
+	@Getter
 	private int maxPlane = 2;
 
 	//The first plane of the "Overworld"
@@ -98,12 +100,17 @@ public class Zone
 
 	public boolean contains(WorldPoint worldPoint)
 	{
-		return minX <= worldPoint.getX()
-			&& worldPoint.getX() <= maxX
-			&& minY <= worldPoint.getY()
-			&& worldPoint.getY() <= maxY
-			&& minPlane <= worldPoint.getPlane()
-			&& worldPoint.getPlane() <= maxPlane;
+		return contains(worldPoint.getX(), worldPoint.getY(), worldPoint.getPlane());
+	}
+
+	public boolean contains(int x, int y, int plane)
+	{
+		return minX <= x
+			&& x <= maxX
+			&& minY <= y
+			&& y <= maxY
+			&& minPlane <= plane
+			&& plane <= maxPlane;
 	}
 
 	public WorldPoint getMinWorldPoint()
@@ -26,6 +26,7 @@ package com.cluedetails.panels;
 
 import com.cluedetails.*;
 import com.cluedetails.ClueDetailsConfig.*;
+import com.cluedetails.filters.ClueFilterCompiler;
 
 import java.awt.BorderLayout;
 import java.awt.Color;
@@ -41,25 +42,20 @@ import java.awt.event.MouseMotionAdapter;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ExecutionException;
-import java.util.stream.Collectors;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
 import lombok.Getter;
 import net.runelite.api.ChatMessageType;
-import net.runelite.api.ItemID;
 import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.config.ConfigGroup;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.game.chatbox.ChatboxItemSearch;
 import net.runelite.client.game.chatbox.ChatboxPanelManager;
-import net.runelite.client.plugins.grounditems.GroundItemsConfig;
-import net.runelite.client.plugins.inventorytags.InventoryTagsConfig;
 import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.ui.PluginPanel;
 import net.runelite.client.ui.components.IconTextField;
@@ -82,6 +78,7 @@ public class ClueDetailsParentPanel extends PluginPanel
 	private List<ListItem> allClues = new ArrayList<>();
 
 	private ConfigManager configManager;
+	private final ClueDetailsStore clueDetailsStore;
 
 	private ChatboxPanelManager chatboxPanelManager;
 
@@ -131,6 +128,7 @@ public class ClueDetailsParentPanel extends PluginPanel
 		this.chatboxPanelManager = chatboxPanelManager;
 		this.clueDetailsSharingManager = clueDetailsSharingManager;
 		this.plugin = plugin;
+		this.clueDetailsStore = plugin.getClueDetailsStore();
 
 		setBackground(ColorScheme.DARK_GRAY_COLOR);
 		setLayout(new BorderLayout());
@@ -168,8 +166,8 @@ public class ClueDetailsParentPanel extends PluginPanel
 		clueTableModel = new ClueTableModel();
 		clueTable = new ClueJTable(clueTableModel);
 
-		clueTable.setDefaultRenderer(Object.class, new ClueTableCellRenderer(this, cluePreferenceManager, configManager));
-		clueTable.setDefaultEditor(Object.class, new ClueTableCellEditor(configManager, clueTable));
+		clueTable.setDefaultRenderer(Object.class, new ClueTableCellRenderer(this, cluePreferenceManager, clueDetailsStore));
+		clueTable.setDefaultEditor(Object.class, new ClueTableCellEditor(clueDetailsStore, clueTable));
 
 		clueTable.addMouseListener(new MouseAdapter()
 		{
@@ -278,32 +276,11 @@ public class ClueDetailsParentPanel extends PluginPanel
 			ListItem item = (ListItem) clueTableModel.getValueAt(row, 0);
 			Clues clue = item.getClue();
 
-			RuneliteColorPicker colorPicker = getColorPicker(clue.getDetailColor(configManager));
+			RuneliteColorPicker colorPicker = getColorPicker(clue.getDetailColor(clueDetailsStore));
 			colorPicker.setOnColorChange(c ->
 			{
-				// Default color is white, so we don't need to store if user selects white
-				if (Objects.equals(c, Color.decode("#FFFFFF")))
-				{
-					configManager.unsetConfiguration("clue-details-color", String.valueOf(clue.getClueID()));
-				}
-				else
-				{
-					configManager.setConfiguration("clue-details-color", String.valueOf(clue.getClueID()), c);
-				}
-
-				int clueItemId = clue.getItemID();
-				if (clueItemId != ItemID.CLUE_SCROLL_BEGINNER && clueItemId != ItemID.CLUE_SCROLL_MASTER)
-				{
-					if (config.colorGroundItems())
-					{
-						configManager.setConfiguration(GroundItemsConfig.GROUP, "highlight_" + clueItemId, c);
-					}
-					if (config.colorInventoryTags())
-					{
-						configManager.setConfiguration(InventoryTagsConfig.GROUP, "tag_" + clueItemId,
-							plugin.getGson().toJson(Map.of("color", c)));
-					}
-				}
+				clueDetailsStore.setColor(clue.getClueID(), c);
+				plugin.getClueColorSync().sync(clue.getClueID());
 			});
 			colorPicker.setVisible(true);
 		});
@@ -351,9 +328,38 @@ public class ClueDetailsParentPanel extends PluginPanel
 
 		popupMenu.add(inputItems);
 
+		JMenuItem markShownItem = new JMenuItem("Mark all shown clues");
+		markShownItem.addActionListener(event -> markShownClues(true));
+		popupMenu.add(markShownItem);
+
+		JMenuItem unmarkShownItem = new JMenuItem("Unmark all shown clues");
+		unmarkShownItem.addActionListener(event -> markShownClues(false));
+		popupMenu.add(unmarkShownItem);
+
 		popupMenu.show(e.getComponent(), e.getX(), e.getY());
 	}
 
+	private void markShownClues(boolean marked)
+	{
+		List<Integer> clueIds = new ArrayList<>();
+		for (int row = 0; row < clueTableModel.getRowCount(); row++)
+		{
+			ListItem item = (ListItem) clueTableModel.getValueAt(row, 0);
+			if (item.isHeader()) continue;
+			clueIds.add(item.getClue().getClueID());
+		}
+
+		cluePreferenceManager.saveHighlightPreferences(clueIds, marked);
+		if (config.onlyShowMarkedClues())
+		{
+			refresh();
+		}
+		else
+		{
+			clueTable.repaint();
+		}
+	}
+
 	private void openResetPopup()
 	{
 		int confirm = JOptionPane.showConfirmDialog(ClueDetailsParentPanel.this,
@@ -594,7 +600,7 @@ public class ClueDetailsParentPanel extends PluginPanel
 			{
 				Clues clue = item.getClue();
 				List<String> keywords = new ArrayList<>();
-				keywords.add(clue.getDetail(configManager).toLowerCase());
+				keywords.add(clue.getDetail(clueDetailsStore).toLowerCase());
 				keywords.add(Integer.toString(clue.getClueID()));
 
 				boolean matches = Arrays.stream(searchTerms)
@@ -623,30 +629,31 @@ public class ClueDetailsParentPanel extends PluginPanel
 			@Override
 			protected List<ListItem> doInBackground()
 			{
-				List<Clues> filteredClues = Clues.CLUES.stream()
-					.filter(config.filterListByTier())
-					.filter(config.filterListByRegion())
-					.filter(ClueDetailsParentPanel.this::filterUnmarkedClues)
-					.sorted(config.orderListBy())
-					.collect(Collectors.toList());
-
-				ClueFilter[] sections = config.orderListBy().getSections();
+				ClueOrdering ordering = config.orderListBy();
+				ClueFilter[] sections = ordering.getSections();
+				BitSet shownClues = ClueFilterCompiler.compile(config.filterListByTier(), config.filterListByRegion(),
+					config.onlyShowMarkedClues() ? cluePreferenceManager.getHighlightedClues() : null);
 
 				List<ListItem> items = new ArrayList<>();
 
-				for (ClueFilter section : sections)
+				for (int section = 0; section < sections.length; section++)
 				{
-					List<Clues> filterList = filteredClues.stream()
-						.filter(section)
-						.collect(Collectors.toList());
-
-					if (!filterList.isEmpty())
+					boolean headerAdded = false;
+					for (int ordinal : ordering.getSectionOrder(section))
 					{
-						items.add(new ListItem(section.getDisplayName()));
-						for (Clues clue : filterList)
+						if (!shownClues.get(ordinal))
+						{
+							continue;
+						}
+
+						Clues clue = Clues.CLUES.get(ordinal);
+
+						if (!headerAdded)
 						{
-							items.add(new ListItem(clue));
+							items.add(new ListItem(sections[section].getDisplayName()));
+							headerAdded = true;
 						}
+						items.add(new ListItem(clue));
 					}
 				}
 				return items;
@@ -679,12 +686,6 @@ public class ClueDetailsParentPanel extends PluginPanel
 		});
 	}
 
-	public boolean filterUnmarkedClues(Clues clue)
-	{
-		if (!config.onlyShowMarkedClues()) return true;
-		return cluePreferenceManager.getHighlightPreference(clue.getClueID());
-	}
-
 	private RuneliteColorPicker getColorPicker(Color color)
 	{
 		RuneliteColorPicker colorPicker = plugin.getColorPickerManager().create(
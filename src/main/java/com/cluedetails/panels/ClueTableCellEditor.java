@@ -24,6 +24,7 @@
  */
 package com.cluedetails.panels;
 
+import com.cluedetails.ClueDetailsStore;
 import com.cluedetails.Clues;
 import java.awt.BorderLayout;
 import java.awt.Color;
@@ -39,7 +40,6 @@ import javax.swing.JTextArea;
 import javax.swing.border.EmptyBorder;
 import javax.swing.table.TableCellEditor;
 import lombok.Getter;
-import net.runelite.client.config.ConfigManager;
 import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.ui.FontManager;
 import net.runelite.client.ui.components.FlatTextField;
@@ -54,12 +54,12 @@ public class ClueTableCellEditor extends AbstractCellEditor implements TableCell
 	private JTextArea cancel = JGenerator.makeJTextArea("Cancel");
 
 	private Clues clue;
-	private ConfigManager configManager;
+	private ClueDetailsStore clueDetailsStore;
 	private JTable clueTable;
 
-	public ClueTableCellEditor(ConfigManager configManager, JTable clueTable)
+	public ClueTableCellEditor(ClueDetailsStore clueDetailsStore, JTable clueTable)
 	{
-		this.configManager = configManager;
+		this.clueDetailsStore = clueDetailsStore;
 		this.clueTable = clueTable;
 
 		editorComponent.setOpaque(true);
@@ -135,7 +135,7 @@ public class ClueTableCellEditor extends AbstractCellEditor implements TableCell
 		ListItem item = (ListItem) value;
 		clue = item.getClue();
 
-		String displayText = clue.getDetail(configManager);
+		String displayText = clue.getDetail(clueDetailsStore);
 		nameInput.setText(displayText);
 		nameInput.getTextField().selectAll();
 
@@ -154,7 +154,7 @@ public class ClueTableCellEditor extends AbstractCellEditor implements TableCell
 		String newName = nameInput.getText().trim();
 		if (!newName.isEmpty())
 		{
-			configManager.setConfiguration("clue-details-text", String.valueOf(clue.getClueID()), newName);
+			clueDetailsStore.setText(clue.getClueID(), newName);
 		}
 		((ClueTableModel) clueTable.getModel()).resetEditableRow();
 		return super.stopCellEditing();
@@ -24,6 +24,7 @@
  */
 package com.cluedetails.panels;
 
+import com.cluedetails.ClueDetailsStore;
 import com.cluedetails.CluePreferenceManager;
 import com.cluedetails.Clues;
 import java.awt.BorderLayout;
@@ -38,7 +39,6 @@ import javax.swing.border.Border;
 import javax.swing.border.CompoundBorder;
 import javax.swing.border.EmptyBorder;
 import javax.swing.table.TableCellRenderer;
-import net.runelite.client.config.ConfigManager;
 import net.runelite.client.ui.ColorScheme;
 
 public class ClueTableCellRenderer extends JPanel implements TableCellRenderer
@@ -51,14 +51,14 @@ public class ClueTableCellRenderer extends JPanel implements TableCellRenderer
 
 	private JTextArea textArea = JGenerator.makeJTextArea();
 	private CluePreferenceManager cluePreferenceManager;
-	private ConfigManager configManager;
+	private ClueDetailsStore clueDetailsStore;
 	private ClueDetailsParentPanel clueDetailsParentPanel;
 
-	public ClueTableCellRenderer(ClueDetailsParentPanel clueDetailsParentPanel, CluePreferenceManager cluePreferenceManager, ConfigManager configManager)
+	public ClueTableCellRenderer(ClueDetailsParentPanel clueDetailsParentPanel, CluePreferenceManager cluePreferenceManager, ClueDetailsStore clueDetailsStore)
 	{
 		this.clueDetailsParentPanel = clueDetailsParentPanel;
 		this.cluePreferenceManager = cluePreferenceManager;
-		this.configManager = configManager;
+		this.clueDetailsStore = clueDetailsStore;
 
 		setLayout(new BorderLayout());
 		setOpaque(true);
@@ -83,9 +83,9 @@ public class ClueTableCellRenderer extends JPanel implements TableCellRenderer
 		else
 		{
 			Clues clue = item.getClue();
-			textArea.setText(clue.getDetail(configManager));
+			textArea.setText(clue.getDetail(clueDetailsStore));
 			textArea.setBackground(clueDetailsParentPanel.getHoveredRow() == row ? ColorScheme.DARK_GRAY_HOVER_COLOR : ColorScheme.DARKER_GRAY_COLOR);
-			textArea.setForeground(clue.getDetailColor(configManager));
+			textArea.setForeground(clue.getDetailColor(clueDetailsStore));
 			textArea.setOpaque(true);
 
 			boolean isActive = cluePreferenceManager.getHighlightPreference(clue.getClueID());
@@ -0,0 +1,107 @@
+package com.cluedetails;
+
+import com.cluedetails.filters.ClueOrders;
+import com.cluedetails.filters.RegionLookup;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Writes {@link ClueCatalogTables} from the clue definitions. Run it from the project directory after changing
+ * {@link Clues} or the regions, as ClueCatalogTablesTest fails until the tables match them again.
+ */
+public class ClueCatalogTablesGenerator
+{
+	private static final Path TABLES = Paths.get("src/main/java/com/cluedetails/ClueCatalogTables.java");
+	// The generated class keeps the license of the definitions it is built from
+	private static final Path DEFINITIONS = Paths.get("src/main/java/com/cluedetails/Clues.java");
+	private static final int VALUES_PER_LINE = 20;
+
+	public static void main(String[] args) throws IOException
+	{
+		String definitions = Files.readString(DEFINITIONS);
+		String header = definitions.substring(0, definitions.indexOf("package "));
+		Files.writeString(TABLES, header + generate());
+	}
+
+	static int[] regionMasks()
+	{
+		int[] masks = new int[Clues.CLUES.size()];
+		for (Clues clue : Clues.CLUES)
+		{
+			for (WorldPoint wp : clue.getWorldPoints())
+			{
+				masks[clue.getOrdinal()] |= RegionLookup.regionMask(wp);
+			}
+		}
+		return masks;
+	}
+
+	static int[] tierOrder()
+	{
+		return ClueOrders.order(Clues.CLUES, ClueOrders.sortByTier());
+	}
+
+	// Worked out from fresh region masks, as the clues' own come from the tables being generated
+	static int[] regionOrder()
+	{
+		int[] masks = regionMasks();
+		return ClueOrders.order(Clues.CLUES, Comparator.comparingInt(clue -> ClueOrders.regionRank(masks[clue.getOrdinal()])));
+	}
+
+	private static String generate()
+	{
+		StringBuilder source = new StringBuilder()
+			.append("package com.cluedetails;\n")
+			.append("\n")
+			.append("/**\n")
+			.append(" * Tables worked out from the clue definitions ahead of time, so loading the catalog only reads constant arrays.\n")
+			.append(" * Generated by ClueCatalogTablesGenerator, so don't edit it by hand. ClueCatalogTablesTest fails when it no\n")
+			.append(" * longer matches {@link Clues}.\n")
+			.append(" */\n")
+			.append("final class ClueCatalogTables\n")
+			.append("{\n")
+			.append("\t// Bitmask of the ClueRegion ordinals each clue's steps are in, by catalog ordinal\n")
+			.append("\tstatic final int[] REGION_MASKS = regionMasks();\n")
+			.append("\t// Catalog ordinals in tier order, then catalog order\n")
+			.append("\tstatic final int[] TIER_ORDER = tierOrder();\n")
+			.append("\t// Catalog ordinals by the first region they are in, then catalog order\n")
+			.append("\tstatic final int[] REGION_ORDER = regionOrder();\n")
+			.append("\n")
+			.append("\tprivate ClueCatalogTables()\n")
+			.append("\t{\n")
+			.append("\t}\n");
+
+		source.append("\n\t// Each table is built in its own method, as the code of one method can't be more than 64KB\n");
+		appendTable(source, "regionMasks", regionMasks());
+		source.append('\n');
+		appendTable(source, "tierOrder", tierOrder());
+		source.append('\n');
+		appendTable(source, "regionOrder", regionOrder());
+		return source.append("}\n").toString();
+	}
+
+	private static void appendTable(StringBuilder source, String name, int[] values)
+	{
+		source.append("\tprivate static int[] ").append(name).append("()\n")
+			.append("\t{\n")
+			.append("\t\treturn new int[]{\n");
+		for (int i = 0; i < values.length; i++)
+		{
+			if (i % VALUES_PER_LINE == 0)
+			{
+				source.append("\t\t\t");
+			}
+			source.append(values[i]);
+			if (i < values.length - 1)
+			{
+				source.append(i % VALUES_PER_LINE == VALUES_PER_LINE - 1 ? ",\n" : ", ");
+			}
+		}
+		source.append("\n\t\t};\n")
+			.append("\t}\n");
+	}
+}
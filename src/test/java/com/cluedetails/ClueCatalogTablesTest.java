@@ -0,0 +1,37 @@
+package com.cluedetails;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class ClueCatalogTablesTest
+{
+	private static final String OUT_OF_DATE = "ClueCatalogTables doesn't match Clues, run ClueCatalogTablesGenerator";
+
+	@Test
+	public void regionMasksMatchDefinitions()
+	{
+		assertArrayEquals(OUT_OF_DATE, ClueCatalogTablesGenerator.regionMasks(), ClueCatalogTables.REGION_MASKS);
+	}
+
+	@Test
+	public void tierOrderMatchesDefinitions()
+	{
+		assertArrayEquals(OUT_OF_DATE, ClueCatalogTablesGenerator.tierOrder(), ClueCatalogTables.TIER_ORDER);
+	}
+
+	@Test
+	public void regionOrderMatchesDefinitions()
+	{
+		assertArrayEquals(OUT_OF_DATE, ClueCatalogTablesGenerator.regionOrder(), ClueCatalogTables.REGION_ORDER);
+	}
+
+	@Test
+	public void cluesReadRegionsFromTables()
+	{
+		for (Clues clue : Clues.CLUES)
+		{
+			assertEquals(ClueCatalogTables.REGION_MASKS[clue.getOrdinal()], clue.getRegionMask());
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.cluedetails;
+
+import com.google.gson.Gson;
+import java.awt.Color;
+import java.util.List;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ClueColorSyncTest
+{
+	// Only read the store and fill the batch, so nothing needs a ConfigManager
+	private final ClueDetailsStore store = new ClueDetailsStore(null, new Gson(), null);
+	private final ClueColorSync sync = new ClueColorSync(null, null, store, new Gson(), null);
+
+	public ClueColorSyncTest()
+	{
+		// Holds back saving, as there is nowhere to save to
+		store.beginBatch();
+	}
+
+	@Test
+	public void coloredMapCluesWriteNothing()
+	{
+		for (int clueId = 21; clueId <= 25; clueId++)
+		{
+			Clues clue = Clues.forClueId(clueId);
+			assertNotNull(clue);
+			store.setColor(clueId, Color.RED);
+
+			ConfigWriteBatch batch = new ConfigWriteBatch(null);
+			sync.addWrites(batch, List.of(clueId), true, false);
+			assertTrue("Map clue " + clueId + " wrote item " + clue.getItemID(), batch.isEmpty());
+		}
+	}
+
+	@Test
+	public void cluesWithTheirOwnIdWriteNothing()
+	{
+		for (Clues clue : Clues.CLUES)
+		{
+			if (!clue.hasOwnClueId()) continue;
+			store.setColor(clue.getClueID(), Color.RED);
+
+			ConfigWriteBatch batch = new ConfigWriteBatch(null);
+			sync.addWrites(batch, List.of(clue.getClueID()), true, false);
+			assertTrue(clue.getClueDetail(), batch.isEmpty());
+		}
+	}
+
+	@Test
+	public void coloredItemClueWritesItsItem()
+	{
+		Clues clue = Clues.CLUES.stream().filter(c -> !c.hasOwnClueId()).findFirst().orElseThrow();
+		store.setColor(clue.getClueID(), Color.RED);
+
+		ConfigWriteBatch batch = new ConfigWriteBatch(null);
+		sync.addWrites(batch, List.of(clue.getClueID()), true, false);
+		assertFalse(batch.isEmpty());
+	}
+}
@@ -0,0 +1,130 @@
+package com.cluedetails;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import java.awt.Color;
+import java.lang.reflect.Type;
+import java.util.List;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class ClueGsonAdaptersTest
+{
+	private static final Type INSTANCES_TYPE = new TypeToken<List<ClueInstanceData>>()
+	{
+	}.getType();
+	private static final Type DETAILS_TYPE = new TypeToken<List<ClueIdToDetails>>()
+	{
+	}.getType();
+
+	private final Gson gson = ClueGsonAdapters.register(new Gson());
+
+	@Test
+	public void readsSavedGroundClues()
+	{
+		// As saved by reflection before the adapters were added
+		String saved = "[{\"clueIds\":[2677,2678],\"itemId\":2677,\"despawnTick\":6000,\"x\":3222,\"y\":3218,\"plane\":1},"
+			+ "{\"clueIds\":[2677,2678],\"itemId\":2678,\"despawnTick\":0,\"x\":0,\"y\":0,\"plane\":0,\"removed\":true},"
+			+ "{\"itemId\":2679,\"despawnTick\":5,\"x\":1,\"y\":2,\"plane\":0}]";
+
+		List<ClueInstanceData> read = gson.fromJson(saved, INSTANCES_TYPE);
+		assertEquals(3, read.size());
+
+		ClueInstanceData first = read.get(0);
+		assertEquals(List.of(2677, 2678), first.getClueIds());
+		assertEquals(2677, first.getItemId());
+		assertEquals(6000, first.getDespawnTick());
+		assertEquals(3222, first.getX());
+		assertEquals(3218, first.getY());
+		assertEquals(1, first.getPlane());
+
+		// Unknown fields are skipped, and equal clue lists are shared
+		assertEquals(2678, read.get(1).getItemId());
+		assertSame(first.getClueIds(), read.get(1).getClueIds());
+
+		assertNull(read.get(2).getClueIds());
+		assertEquals(2679, read.get(2).getItemId());
+	}
+
+	@Test
+	public void groundCluesRoundTrip()
+	{
+		List<ClueInstanceData> data = List.of(
+			new ClueInstanceData(List.of(19814), 19814, 200, 3200, 3201, 2),
+			new ClueInstanceData(null, 2677, -1, 0, 0, 0));
+
+		List<ClueInstanceData> read = gson.fromJson(gson.toJson(data, INSTANCES_TYPE), INSTANCES_TYPE);
+		assertEquals(data, read);
+	}
+
+	@Test
+	public void readsLegacyExport()
+	{
+		// Colors as written by reflection, as hex strings and as plain numbers
+		String exported = "[{\"id\":1,\"text\":\"Dig at the tree\",\"color\":{\"value\":-65536,\"falpha\":0.0},\"itemIds\":[952,null,1351]},"
+			+ "{\"id\":2,\"color\":\"#00ff00\"},"
+			+ "{\"id\":3,\"color\":\"#800000ff\"},"
+			+ "{\"id\":4,\"color\":-16776961,\"unknown\":[1,2]},"
+			+ "{\"id\":5,\"text\":null,\"itemIds\":[]}]";
+
+		List<ClueIdToDetails> read = gson.fromJson(exported, DETAILS_TYPE);
+		assertEquals(5, read.size());
+
+		ClueIdToDetails first = read.get(0);
+		assertEquals(1, first.getId());
+		assertEquals("Dig at the tree", first.getText());
+		assertEquals(new Color(255, 0, 0), first.getColor());
+		assertArrayEquals(new int[]{952, 1351}, first.getItemIds());
+
+		assertEquals(new Color(0, 255, 0), read.get(1).getColor());
+		assertEquals(new Color(0, 0, 255, 128), read.get(2).getColor());
+		assertEquals(new Color(0, 0, 255), read.get(3).getColor());
+
+		ClueIdToDetails last = read.get(4);
+		assertNull(last.getText());
+		assertNull(last.getColor());
+		assertArrayEquals(new int[0], last.getItemIds());
+	}
+
+	@Test
+	public void detailsRoundTrip()
+	{
+		List<ClueIdToDetails> details = List.of(
+			new ClueIdToDetails(1, "Text only"),
+			new ClueIdToDetails(2, new Color(12, 34, 56, 78)),
+			new ClueIdToDetails(3, new int[]{952, 1351}),
+			new ClueIdToDetails(4, "All \"three\"\n", Color.RED, new int[]{1}),
+			new ClueIdToDetails(5, (String) null));
+
+		List<ClueIdToDetails> read = gson.fromJson(gson.toJson(details, DETAILS_TYPE), DETAILS_TYPE);
+		assertEquals(details, read);
+	}
+
+	@Test
+	public void readsSavedColors()
+	{
+		assertEquals(new Color(0x12345678, true), gson.fromJson("{\"value\":305419896,\"falpha\":0.0}", Color.class));
+		assertEquals(new Color(0x12345678, true), gson.fromJson("{\"value\":305419896}", Color.class));
+		assertEquals(new Color(0xFF123456, true), gson.fromJson("\"#123456\"", Color.class));
+		assertNull(gson.fromJson("null", Color.class));
+	}
+
+	@Test
+	public void colorsRoundTrip()
+	{
+		for (Color color : new Color[]{Color.WHITE, new Color(0, 0, 0, 0), new Color(0x80FF8000, true)})
+		{
+			Color read = gson.fromJson(gson.toJson(color, Color.class), Color.class);
+			assertEquals(color.getRGB(), read.getRGB());
+		}
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void rejectsMalformedHexColor()
+	{
+		gson.fromJson("\"not a color\"", Color.class);
+	}
+}
@@ -0,0 +1,113 @@
+package com.cluedetails;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import net.runelite.api.coords.WorldPoint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ClueLocationIndexTest
+{
+	private final ClueLocationIndex index = new ClueLocationIndex(Clues.CLUES);
+
+	@Test
+	public void withinRadiusMatchesBruteForce()
+	{
+		for (WorldPoint location : sampleLocations())
+		{
+			for (int radius : new int[]{0, 5, 40, 200})
+			{
+				Map<Clues, Integer> expected = closestSteps(location);
+				expected.values().removeIf(distance -> distance > radius);
+
+				List<Clues> actual = index.withinRadius(location, radius);
+				assertEquals(location + " r" + radius, expected.keySet(), new HashSet<>(actual));
+				assertEquals(actual.size(), new HashSet<>(actual).size());
+				assertSortedByDistance(actual, expected);
+			}
+		}
+	}
+
+	@Test
+	public void nearestMatchesBruteForce()
+	{
+		for (WorldPoint location : sampleLocations())
+		{
+			for (int count : new int[]{1, 3, 10})
+			{
+				Map<Clues, Integer> expected = closestSteps(location);
+				List<Integer> expectedDistances = new ArrayList<>(expected.values());
+				expectedDistances.sort(Comparator.naturalOrder());
+				expectedDistances = expectedDistances.subList(0, Math.min(count, expectedDistances.size()));
+
+				List<Clues> actual = index.nearest(location, count);
+				List<Integer> actualDistances = new ArrayList<>();
+				for (Clues clue : actual)
+				{
+					actualDistances.add(expected.get(clue));
+				}
+				assertEquals(location + " n" + count, expectedDistances, actualDistances);
+				assertEquals(actual.size(), new HashSet<>(actual).size());
+			}
+		}
+	}
+
+	@Test
+	public void nearestWithNoCountIsEmpty()
+	{
+		assertTrue(index.nearest(new WorldPoint(3222, 3218, 0), 0).isEmpty());
+	}
+
+	private static void assertSortedByDistance(List<Clues> clues, Map<Clues, Integer> distances)
+	{
+		for (int i = 1; i < clues.size(); i++)
+		{
+			assertTrue(distances.get(clues.get(i - 1)) <= distances.get(clues.get(i)));
+		}
+	}
+
+	// Distance to the closest step of every enabled clue on the location's plane
+	private static Map<Clues, Integer> closestSteps(WorldPoint location)
+	{
+		Map<Clues, Integer> closest = new HashMap<>();
+		for (Clues clue : Clues.CLUES)
+		{
+			if (!clue.isEnabled()) continue;
+
+			for (WorldPoint wp : clue.getWorldPoints())
+			{
+				if (wp.getPlane() != location.getPlane()) continue;
+
+				closest.merge(clue, wp.distanceTo(location), Math::min);
+			}
+		}
+		return closest;
+	}
+
+	private static List<WorldPoint> sampleLocations()
+	{
+		Random random = new Random(2024);
+		List<WorldPoint> steps = new ArrayList<>();
+		for (Clues clue : Clues.CLUES)
+		{
+			steps.addAll(clue.getWorldPoints());
+		}
+
+		List<WorldPoint> locations = new ArrayList<>();
+		locations.add(new WorldPoint(3222, 3218, 0));
+		locations.add(new WorldPoint(0, 0, 0));
+		locations.add(new WorldPoint(3222, 3218, 3));
+		for (int i = 0; i < 50; i++)
+		{
+			WorldPoint step = steps.get(random.nextInt(steps.size()));
+			locations.add(step.dx(random.nextInt(129) - 64).dy(random.nextInt(129) - 64));
+		}
+		return locations;
+	}
+}
@@ -0,0 +1,203 @@
+package com.cluedetails;
+
+import com.google.gson.Gson;
+import java.awt.Color;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ClueShareCodecTest
+{
+	private static final String[] TEXTS = { "Dig here", "Speak to Hans", "Dig here", "\u00dcn\u00efcode \u2713", "" };
+	private static final Color[] COLORS = { Color.RED, new Color(0x123456), Color.BLACK };
+
+	@Test
+	public void roundTripsEveryCombinationOfDetails()
+	{
+		// IDs go down as well as up, so the deltas between them are negative too
+		int[] ids = { 19814, 2677, 0, 25792, 3490, 3490, 23182, 1 };
+		List<ClueIdToDetails> details = new ArrayList<>();
+		for (int i = 0; i < ids.length; i++)
+		{
+			String text = (i & 1) != 0 ? TEXTS[i % TEXTS.length] : null;
+			Color color = (i & 2) != 0 ? COLORS[i % COLORS.length] : null;
+			int[] itemIds = (i & 4) != 0 ? new int[]{ 952, 1351 + i, 30_000 } : null;
+			details.add(new ClueIdToDetails(ids[i], text, color, itemIds));
+		}
+		details.add(new ClueIdToDetails(400, "Empty items", null, new int[0]));
+
+		assertEquals(details, ClueShareCodec.decode(ClueShareCodec.encode(details)));
+	}
+
+	@Test
+	public void roundTripsNothing()
+	{
+		assertEquals(List.of(), ClueShareCodec.decode(ClueShareCodec.encode(List.of())));
+	}
+
+	@Test
+	public void storesRepeatedTextsOnce()
+	{
+		List<ClueIdToDetails> details = new ArrayList<>();
+		for (int id = 0; id < 50; id++)
+		{
+			details.add(new ClueIdToDetails(id, TEXTS[id % 2]));
+		}
+
+		List<ClueIdToDetails> decoded = ClueShareCodec.decode(ClueShareCodec.encode(details));
+		assertEquals(details, decoded);
+		assertSame(decoded.get(0).getText(), decoded.get(48).getText());
+		assertSame(decoded.get(1).getText(), decoded.get(49).getText());
+	}
+
+	@Test
+	public void ignoresLineBreaksAndSurroundingWhitespace()
+	{
+		List<ClueIdToDetails> details = List.of(new ClueIdToDetails(2677, "Dig here", Color.RED, new int[]{ 952 }));
+		String encoded = ClueShareCodec.encode(details);
+		String body = encoded.substring(ClueShareCodec.PREFIX.length());
+
+		StringBuilder wrapped = new StringBuilder("\n  ").append(ClueShareCodec.PREFIX);
+		for (int i = 0; i < body.length(); i += 10)
+		{
+			wrapped.append(body, i, Math.min(body.length(), i + 10)).append("\r\n");
+		}
+
+		assertTrue(ClueShareCodec.isShareString(wrapped.toString()));
+		assertEquals(details, ClueShareCodec.decode(wrapped.toString()));
+	}
+
+	@Test
+	public void isSmallerThanJson()
+	{
+		// A preset marking every clue with a handful of colors and texts, as shared presets tend to
+		List<ClueIdToDetails> details = new ArrayList<>();
+		for (int i = 0; i < 500; i++)
+		{
+			int[] itemIds = i % 5 == 0 ? new int[]{ 952, 1351 } : null;
+			details.add(new ClueIdToDetails(2677 + i * 3, TEXTS[i % 4], COLORS[i % 3], itemIds));
+		}
+
+		String json = ClueGsonAdapters.register(new Gson()).toJson(details);
+		String encoded = ClueShareCodec.encode(details);
+		assertTrue(encoded.length() + " vs " + json.length(), encoded.length() * 10 < json.length());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsMissingPrefix()
+	{
+		ClueShareCodec.decode("[{\"id\":1}]");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsInvalidBase64()
+	{
+		ClueShareCodec.decode(ClueShareCodec.PREFIX + "abc=def");
+	}
+
+	@Test
+	public void rejectsTruncatedStrings()
+	{
+		List<ClueIdToDetails> details = List.of(
+			new ClueIdToDetails(2677, "Dig here", Color.RED, new int[]{ 952, 1351 }),
+			new ClueIdToDetails(19814, "Speak to Hans", Color.BLUE, null));
+		String encoded = ClueShareCodec.encode(details);
+		byte[] payload = payload(encoded);
+
+		for (int length = 0; length < payload.length; length++)
+		{
+			assertRejected(shareString(Arrays.copyOf(payload, length)));
+		}
+		for (int length = ClueShareCodec.PREFIX.length(); length < encoded.length() - 4; length += 4)
+		{
+			assertRejected(encoded.substring(0, length));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsUnknownVersion()
+	{
+		ClueShareCodec.decode(shareString(new byte[]{ 2, 0, 0 }));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsTextIndexOutOfRange()
+	{
+		// One clue with text, but no texts
+		ClueShareCodec.decode(shareString(new byte[]{ 1, 0, 1, 0, 1, 0 }));
+	}
+
+	@Test
+	public void rejectsOversizedCounts()
+	{
+		byte[] negative = { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F };
+		byte[] million = { (byte) 0xC0, (byte) 0x84, 0x3D };
+
+		// Text count, text length, clue count and item count
+		assertRejected(shareString(concat(new byte[]{ 1 }, negative)));
+		assertRejected(shareString(concat(new byte[]{ 1 }, million)));
+		assertRejected(shareString(concat(new byte[]{ 1, 1 }, million)));
+		assertRejected(shareString(concat(new byte[]{ 1, 0 }, negative)));
+		assertRejected(shareString(concat(new byte[]{ 1, 0 }, million)));
+		assertRejected(shareString(concat(new byte[]{ 1, 0, 1, 0, 4 }, million)));
+	}
+
+	private static void assertRejected(String shareString)
+	{
+		try
+		{
+			ClueShareCodec.decode(shareString);
+		}
+		catch (IllegalArgumentException e)
+		{
+			return;
+		}
+		throw new AssertionError("Decoded " + shareString);
+	}
+
+	private static byte[] concat(byte[] first, byte[] second)
+	{
+		byte[] joined = Arrays.copyOf(first, first.length + second.length);
+		System.arraycopy(second, 0, joined, first.length, second.length);
+		return joined;
+	}
+
+	private static String shareString(byte[] payload)
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (OutputStream out = new DeflaterOutputStream(bytes))
+		{
+			out.write(payload);
+		}
+		catch (IOException e)
+		{
+			throw new IllegalStateException(e);
+		}
+		return ClueShareCodec.PREFIX + Base64.getEncoder().encodeToString(bytes.toByteArray());
+	}
+
+	private static byte[] payload(String shareString)
+	{
+		byte[] compressed = Base64.getDecoder().decode(shareString.substring(ClueShareCodec.PREFIX.length()));
+		try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(compressed)))
+		{
+			return in.readAllBytes();
+		}
+		catch (IOException e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
+}